@@ -0,0 +1,10 @@
+#!/bin/sh
+# Builds the benchmark jar and runs every benchmark (or the ones matching $1, a JMH regex).
+#
+# - Throughput and SampleTime (p50 / p90 / p99 / p99.9 latency) for every benchmark.
+# - The gc profiler adds allocation rate (gc.alloc.rate.norm = bytes per operation).
+# - Results are saved as JSON in results.json.
+set -e
+cd "$(dirname "$0")"
+mvn -B -q package
+java -jar target/benchmarks.jar "${1:-.*}" -prof gc -rf json -rff results.json
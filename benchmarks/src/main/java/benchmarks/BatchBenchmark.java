@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategicapproachtodp.HouseRobber198_dp_topdownoptimized;
+import strategicapproachtodp.InstanceBatch;
+import strategicapproachtodp.MaximunSubarray53_dp;
+
+/**
+ * 
+ * - Many small instances (10 - 200 elements): one call and one int[] per instance, against one batch call (see InstanceBatch).
+ *
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512m", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+	
+	@Param({"1000", "100000"})
+	int instances;
+	
+	int[][] separate;
+	int[] data;
+	int[] offsets;
+	int[] results;
+	
+	private final HouseRobber198_dp_topdownoptimized robber = new HouseRobber198_dp_topdownoptimized();
+	private final MaximunSubarray53_dp kadane = new MaximunSubarray53_dp();
+	
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(Inputs.SEED);
+		
+		int[] lengths = new int[instances];
+		for(int i = 0; i < instances; i++) {
+			lengths[i] = 10 + random.nextInt(191);
+		}
+		offsets = InstanceBatch.offsetsOf(lengths);
+		data = Inputs.positive(offsets[instances], Inputs.Distribution.UNIFORM);
+		results = new int[instances];
+		
+		separate = new int[instances][];
+		for(int i = 0; i < instances; i++) {
+			separate[i] = Arrays.copyOfRange(data, offsets[i], offsets[i + 1]);
+		}
+	}
+	
+	@Benchmark
+	public int[] robEach() {
+		for(int i = 0; i < instances; i++) {
+			results[i] = robber.rob(separate[i]);
+		}
+		return results;
+	}
+	
+	@Benchmark
+	public int[] robBatch() {
+		robber.robAll(data, offsets, results);
+		return results;
+	}
+	
+	@Benchmark
+	public int[] maxSubArrayEach() {
+		for(int i = 0; i < instances; i++) {
+			results[i] = kadane.maxSubArray(separate[i]);
+		}
+		return results;
+	}
+	
+	@Benchmark
+	public int[] maxSubArrayBatch() {
+		kadane.maxSubArrayAll(data, offsets, results);
+		return results;
+	}
+
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategicapproachtodp.ClimbingStairs70_DP;
+import strategicapproachtodp.ClimbingStairs70_bottomup;
+import strategicapproachtodp.ClimbingStairs70_matrix;
+import strategicapproachtodp.ClimbingStairs70_recursion;
+import strategicapproachtodp.ClimbingStairs70_table;
+
+/**
+ * 
+ * - Every ClimbingStairs70 variant on the same n.
+ * - n stays at most 45 so the int results do not overflow; the plain recursion is O(2^n),
+ *   so it gets its own, smaller sizes (see RecursionState).
+ * - The top-down solvers get a fresh instance per call, otherwise the memo from the previous call answers in O(1).
+ *
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512m", "--add-modules=jdk.incubator.vector"})
+public class ClimbingStairsBenchmark {
+	
+	@State(Scope.Benchmark)
+	public static class Input {
+		@Param({"10", "30", "45"})
+		int n;
+	}
+	
+	@State(Scope.Benchmark)
+	public static class RecursionState {
+		@Param({"10", "20", "30"})
+		int n;
+	}
+	
+	@Benchmark
+	public int recursion(RecursionState input) {
+		return new ClimbingStairs70_recursion().climbStairs(input.n);
+	}
+	
+	@Benchmark
+	public int topdown(Input input) {
+		return new ClimbingStairs70_DP().climbStairs(input.n);
+	}
+	
+	@Benchmark
+	public int topdownStackSafe(Input input) {
+		return new ClimbingStairs70_DP().climbStairsStackSafe(input.n);
+	}
+	
+	@Benchmark
+	public int bottomup(Input input) {
+		return new ClimbingStairs70_bottomup().climbStairs(input.n);
+	}
+	
+	@Benchmark
+	public int matrix(Input input) {
+		return new ClimbingStairs70_matrix().climbStairs(input.n);
+	}
+	
+	@Benchmark
+	public int table(Input input) {
+		return ClimbingStairs70_table.exact().climbStairs(input.n);
+	}
+	
+	@Benchmark
+	public long matrixMod(Input input) {
+		return new ClimbingStairs70_matrix().climbStairsMod(input.n, 1_000_000_007L);
+	}
+
+}
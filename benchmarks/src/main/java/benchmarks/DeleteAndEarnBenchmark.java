@@ -0,0 +1,72 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategicapproachtodp.DeleteAndEarn740_bottomup;
+import strategicapproachtodp.DeleteAndEarn740_parallel;
+import strategicapproachtodp.DeleteAndEarn740_topdown;
+
+/**
+ * 
+ * - Every DeleteAndEarn740 variant on the same values.
+ * - SPARSE has a few values up to 10^9, which used to size the bottom-up table
+ *   (fewer and smaller as n grows, so the answer still fits in an int).
+ * - Setup checks the variants agree, so a wrong (e.g. overflowed) answer is never timed.
+ *
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512m", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class DeleteAndEarnBenchmark {
+	
+	@Param({"100", "10000", "1000000"})
+	int n;
+	
+	@Param({"UNIFORM", "SPARSE"})
+	Inputs.Distribution distribution;
+	
+	int[] nums;
+	
+	private final DeleteAndEarn740_parallel parallel = new DeleteAndEarn740_parallel();
+	
+	@Setup
+	public void setup() {
+		nums = Inputs.positive(n, distribution);
+		
+		int expected = bottomup();
+		if(expected < 0 || topdown() != expected || parallel() != expected) {
+			throw new IllegalStateException("variants disagree on " + distribution + " n = " + n);
+		}
+	}
+	
+	@Benchmark
+	public int topdown() {
+		return new DeleteAndEarn740_topdown().deleteAndEarn(nums);
+	}
+	
+	@Benchmark
+	public int bottomup() {
+		return new DeleteAndEarn740_bottomup().deleteAndEarn(nums);
+	}
+	
+	@Benchmark
+	public int parallel() {
+		return parallel.deleteAndEarn(nums);
+	}
+
+}
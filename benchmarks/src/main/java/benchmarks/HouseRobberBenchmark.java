@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategicapproachtodp.HouseRobber198_dp_bottomup;
+import strategicapproachtodp.HouseRobber198_dp_topdown;
+import strategicapproachtodp.HouseRobber198_dp_topdownoptimized;
+import strategicapproachtodp.HouseRobber198_parallel;
+import strategicapproachtodp.HouseRobber198_streaming;
+
+/**
+ * 
+ * - Every HouseRobber198 variant on the same houses.
+ * - The recursive top-down solver recurses n deep, hence the big thread stack in the fork.
+ *
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512m", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class HouseRobberBenchmark {
+	
+	@Param({"100", "10000", "1000000"})
+	int n;
+	
+	@Param({"UNIFORM", "SORTED"})
+	Inputs.Distribution distribution;
+	
+	int[] nums;
+	
+	private final HouseRobber198_parallel parallel = new HouseRobber198_parallel();
+	
+	@Setup
+	public void setup() {
+		nums = Inputs.positive(n, distribution);
+	}
+	
+	@Benchmark
+	public int topdown() {
+		return new HouseRobber198_dp_topdown().rob(nums);
+	}
+	
+	@Benchmark
+	public int topdownStackSafe() {
+		return new HouseRobber198_dp_topdown().robStackSafe(nums);
+	}
+	
+	@Benchmark
+	public int bottomup() {
+		return new HouseRobber198_dp_bottomup().rob(nums);
+	}
+	
+	@Benchmark
+	public int optimized() {
+		return new HouseRobber198_dp_topdownoptimized().rob(nums);
+	}
+	
+	@Benchmark
+	public int parallel() {
+		return parallel.rob(nums);
+	}
+	
+	@Benchmark
+	public long streaming() {
+		HouseRobber198_streaming solver = new HouseRobber198_streaming();
+		solver.accept(nums, 0, nums.length);
+		return solver.best();
+	}
+
+}
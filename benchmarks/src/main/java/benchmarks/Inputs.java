@@ -0,0 +1,96 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * 
+ * - Reproducible benchmark inputs (fixed seed), so every variant sees the same data.
+ *
+ */
+public final class Inputs {
+	
+	static final long SEED = 0x5EED;
+	
+	/**
+	 * How the values of a 1D input are spread.
+	 * - UNIFORM, small values in [0, 1000).
+	 * - SPARSE, mostly small values with a few up to 10^9 (the case that hurts dense Delete and Earn),
+	 *   capped so the whole sum still fits in an int (see sparseCap).
+	 * - SORTED, increasing values, a worst case for greedy-looking inputs.
+	 * - SIGNED, values in [-1000, 1000), only meaningful for Maximum Subarray.
+	 */
+	public enum Distribution {
+		UNIFORM, SPARSE, SORTED, SIGNED
+	}
+	
+	private Inputs() {}
+	
+	static int[] ints(int n, Distribution distribution) {
+		SplittableRandom random = new SplittableRandom(SEED);
+		int[] nums = new int[n];
+		int outliers = 0;
+		
+		for(int i = 0; i < n; i++) {
+			switch(distribution) {
+			case UNIFORM:
+				nums[i] = random.nextInt(1000);
+				break;
+			case SPARSE:
+				if(random.nextInt(100) == 0 && outliers < maxOutliers(n)) {
+					nums[i] = 1 + random.nextInt(sparseCap(n));
+					outliers++;
+				} else {
+					nums[i] = 1 + random.nextInt(1000);
+				}
+				break;
+			case SORTED:
+				nums[i] = (int) ((long) i * 1000 / Math.max(n, 1));
+				break;
+			case SIGNED:
+				nums[i] = random.nextInt(2000) - 1000;
+				break;
+			default:
+				throw new IllegalArgumentException(distribution.name());
+			}
+		}
+		
+		return nums;
+	}
+	
+	// At most 2% of the values are outliers
+	private static int maxOutliers(int n) {
+		return Math.max(1, n / 50);
+	}
+	
+	// Largest outlier such that n small values (<= 1000) plus every outlier sum to at most Integer.MAX_VALUE,
+	// so Delete and Earn answers (at most the sum) never overflow
+	private static int sparseCap(int n) {
+		long budget = Integer.MAX_VALUE - 1000L * n;
+		return (int) Math.max(1000, Math.min(1_000_000_000, budget / maxOutliers(n)));
+	}
+	
+	/**
+	 * Positive values only, as House Robber and Delete and Earn expect.
+	 */
+	static int[] positive(int n, Distribution distribution) {
+		int[] nums = ints(n, distribution);
+		for(int i = 0; i < n; i++) {
+			nums[i] = Math.max(1, Math.abs(nums[i]));
+		}
+		return nums;
+	}
+	
+	static char[][] grid(int rows, int cols, double density) {
+		SplittableRandom random = new SplittableRandom(SEED);
+		char[][] matrix = new char[rows][cols];
+		
+		for(char[] row : matrix) {
+			for(int j = 0; j < cols; j++) {
+				row[j] = random.nextDouble() < density ? '1' : '0';
+			}
+		}
+		
+		return matrix;
+	}
+
+}
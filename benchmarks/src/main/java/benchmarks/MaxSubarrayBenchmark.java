@@ -0,0 +1,66 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategicapproachtodp.MaximunSubarray53_dp;
+import strategicapproachtodp.MaximunSubarray53_parallel;
+import strategicapproachtodp.MaximunSubarray53_streaming;
+
+/**
+ * 
+ * - Every MaximunSubarray53 variant on the same values.
+ *
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512m", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class MaxSubarrayBenchmark {
+	
+	@Param({"100", "10000", "1000000"})
+	int n;
+	
+	@Param({"SIGNED", "UNIFORM"})
+	Inputs.Distribution distribution;
+	
+	int[] nums;
+	
+	private final MaximunSubarray53_parallel parallel = new MaximunSubarray53_parallel();
+	
+	@Setup
+	public void setup() {
+		nums = Inputs.ints(n, distribution);
+	}
+	
+	@Benchmark
+	public int kadane() {
+		return new MaximunSubarray53_dp().maxSubArray(nums);
+	}
+	
+	@Benchmark
+	public int parallel() {
+		return parallel.maxSubArray(nums);
+	}
+	
+	@Benchmark
+	public long streaming() {
+		MaximunSubarray53_streaming solver = new MaximunSubarray53_streaming();
+		solver.accept(nums, 0, nums.length);
+		return solver.best();
+	}
+
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategicapproachtodp.MaximalSquare221_bitpacked;
+import strategicapproachtodp.MaximalSquare221_dp;
+import strategicapproachtodp.MaximalSquare221_incremental;
+import strategicapproachtodp.MaximalSquare221_tabulated;
+import strategicapproachtodp.MaximalSquare221_vector;
+
+/**
+ * 
+ * - Every MaximalSquare221 variant on the same square grid.
+ * - bitpacked is measured without packing; the grid is packed once in setup, like an input that arrives packed.
+ *
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512m", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class MaximalSquareBenchmark {
+	
+	@Param({"100", "1000", "4000"})
+	int size;
+	
+	@Param({"0.5", "0.95"})
+	double density;
+	
+	char[][] matrix;
+	long[][] packed;
+	
+	private final MaximalSquare221_bitpacked bitpacked = new MaximalSquare221_bitpacked();
+	private final MaximalSquare221_vector vector = new MaximalSquare221_vector();
+	
+	@Setup
+	public void setup() {
+		matrix = Inputs.grid(size, size, density);
+		packed = MaximalSquare221_bitpacked.pack(matrix);
+	}
+	
+	@Benchmark
+	public int dp() {
+		return new MaximalSquare221_dp().maximalSquare(matrix);
+	}
+	
+	@Benchmark
+	public int tabulated() {
+		return new MaximalSquare221_tabulated().maximalSquare(matrix);
+	}
+	
+	@Benchmark
+	public int vector() {
+		return vector.maximalSquare(matrix);
+	}
+	
+	@Benchmark
+	public long bitpacked() {
+		return bitpacked.maximalSquare(packed, size);
+	}
+	
+	@Benchmark
+	public int incrementalBuild() {
+		return new MaximalSquare221_incremental(matrix).maximalSquare();
+	}
+
+}
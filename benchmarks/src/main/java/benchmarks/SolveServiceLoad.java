@@ -0,0 +1,143 @@
+package benchmarks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import strategicapproachtodp.AdaptiveSolver;
+import strategicapproachtodp.ClimbingStairs70_table;
+import strategicapproachtodp.SolveService;
+
+/**
+ *
+ * = Local load generator for SolveService =
+ *
+ * - No network: one caller thread keeps a fixed number of requests outstanding against the service in the same JVM,
+ *   each one waits on its future (no thread held per request).
+ * - The mix draws from a few hot inputs per problem, so identical requests overlap and get coalesced,
+ *   and Climbing Stairs asks for random n, so smaller n get answered from larger ones.
+ *
+ * - Prints throughput, latency percentiles, how requests ended (ok, rejected, timed out)
+ *   and the service counters.
+ *
+ *     java --add-modules jdk.incubator.vector -cp target/benchmarks.jar benchmarks.SolveServiceLoad [seconds] [outstanding] [threads] [queue] [timeoutMillis]
+ *
+ */
+public final class SolveServiceLoad {
+
+	private static final int HOT_INPUTS = 8;
+	private static final int INPUT_SIZE = 200_000;
+	private static final int MAX_STAIRS = 5_000_000;
+	private static final int MAX_SAMPLES = 1 << 22;
+
+	private SolveServiceLoad() {}
+
+	public static void main(String[] args) throws InterruptedException {
+		int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		int outstanding = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		int queue = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+		Duration timeout = Duration.ofMillis(args.length > 4 ? Long.parseLong(args[4]) : 50);
+
+		int[][] signed = new int[HOT_INPUTS][];
+		int[][] positive = new int[HOT_INPUTS][];
+		char[][][] grids = new char[HOT_INPUTS][][];
+		for(int i = 0; i < HOT_INPUTS; i++) {
+			signed[i] = Inputs.ints(INPUT_SIZE + i, Inputs.Distribution.SIGNED);
+			positive[i] = Inputs.positive(INPUT_SIZE + i, Inputs.Distribution.UNIFORM);
+			grids[i] = Inputs.grid(300 + i, 300, 0.8);
+		}
+
+		Semaphore permits = new Semaphore(outstanding);
+		AtomicInteger samples = new AtomicInteger();
+		long[] latencies = new long[MAX_SAMPLES];
+		LongAdder ok = new LongAdder();
+		LongAdder rejected = new LongAdder();
+		LongAdder timedOut = new LongAdder();
+		LongAdder failed = new LongAdder();
+
+		SplittableRandom random = new SplittableRandom(Inputs.SEED);
+
+		try(SolveService service = new SolveService(new AdaptiveSolver(), ClimbingStairs70_table.modulo(1_000_000_007), threads, queue)) {
+			long start = System.nanoTime();
+			long end = start + Duration.ofSeconds(seconds).toNanos();
+
+			while(System.nanoTime() - end < 0) {
+				permits.acquire();
+
+				int input = random.nextInt(HOT_INPUTS);
+				long sent = System.nanoTime();
+				CompletableFuture<?> request;
+
+				switch(random.nextInt(5)) {
+				case 0:
+					request = service.climbStairs(1 + random.nextInt(MAX_STAIRS), timeout);
+					break;
+				case 1:
+					request = service.rob(positive[input], timeout);
+					break;
+				case 2:
+					request = service.deleteAndEarn(positive[input], timeout);
+					break;
+				case 3:
+					request = service.maxSubArray(signed[input], timeout);
+					break;
+				default:
+					request = service.maximalSquare(grids[input], timeout);
+					break;
+				}
+
+				request.whenComplete((result, error) -> {
+					int sample = samples.getAndIncrement();
+					if(sample < MAX_SAMPLES) {
+						latencies[sample] = System.nanoTime() - sent;
+					}
+
+					Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+					if(cause == null) {
+						ok.increment();
+					} else if(cause instanceof RejectedExecutionException) {
+						rejected.increment();
+					} else if(cause instanceof TimeoutException) {
+						timedOut.increment();
+					} else {
+						failed.increment();
+					}
+
+					permits.release();
+				});
+			}
+
+			// Let the outstanding requests finish
+			permits.acquire(outstanding);
+			double elapsed = (System.nanoTime() - start) / 1e9;
+
+			int count = Math.min(samples.get(), MAX_SAMPLES);
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+
+			System.out.printf("requests %d in %.1f s, %.0f req/s (%d outstanding, %d solver threads, queue %d, timeout %d ms)%n",
+					samples.get(), elapsed, samples.get() / elapsed, outstanding, threads, queue, timeout.toMillis());
+			System.out.printf("latency p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, p99.9 %.3f ms%n",
+					percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 0.999));
+			System.out.printf("ok %d, rejected %d, timed out %d, failed %d%n", ok.sum(), rejected.sum(), timedOut.sum(), failed.sum());
+			System.out.printf("service: computed %d, coalesced %d, from table %d, rejected %d, expired in queue %d%n",
+					service.submitted(), service.coalesced(), service.fromTable(), service.rejected(), service.expired());
+		}
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		if(sorted.length == 0) {
+			return 0;
+		}
+		return sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))] / 1e6;
+	}
+
+}
@@ -0,0 +1,105 @@
+package strategicapproachtodp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * - VectorKernels against ScalarKernels on random inputs.
+ * - Lengths run from 1 to a few vector widths (so every tail length is hit),
+ *   values cover the whole int range as well as small ones, and segments start at any offset.
+ *
+ */
+class DpKernelsTest {
+
+	private static final int MAX_LENGTH = 200;
+	private static final int ROUNDS = 20;
+
+	private final DpKernels scalar = new ScalarKernels();
+	private final DpKernels vector = new VectorKernels();
+
+	private final SplittableRandom random = new SplittableRandom(0x5EED);
+
+	private int[] ints(int length, boolean small) {
+		int[] nums = new int[length];
+		for(int i = 0; i < length; i++) {
+			nums[i] = small ? random.nextInt(-1000, 1000) : random.nextInt();
+		}
+		return nums;
+	}
+
+	@Test
+	void minMaxAgrees() {
+		for(int length = 1; length <= MAX_LENGTH; length++) {
+			for(int round = 0; round < ROUNDS; round++) {
+				int[] nums = ints(length, round % 2 == 0);
+				assertArrayEquals(scalar.minMax(nums), vector.minMax(nums), "length " + length);
+			}
+		}
+
+		int[] extremes = {0, Integer.MIN_VALUE, -1, Integer.MAX_VALUE, 1};
+		assertArrayEquals(scalar.minMax(extremes), vector.minMax(extremes));
+	}
+
+	@Test
+	void squareRowAgrees() {
+		for(int cols = 0; cols <= MAX_LENGTH; cols++) {
+			for(int round = 0; round < ROUNDS; round++) {
+				double density = round % 2 == 0 ? 0.5 : 0.95;
+
+				// Row after row of a random grid, each kernel on its own rows
+				int[] scalarPrev = new int[cols + 1];
+				int[] vectorPrev = new int[cols + 1];
+
+				for(int row = 0; row < 8; row++) {
+					char[] cells = new char[cols];
+					for(int j = 0; j < cols; j++) {
+						cells[j] = random.nextDouble() < density ? '1' : '0';
+					}
+
+					int[] scalarCurr = new int[cols + 1];
+					int[] vectorCurr = new int[cols + 1];
+
+					assertEquals(scalar.squareRow(scalarPrev, scalarCurr, cells, cols), vector.squareRow(vectorPrev, vectorCurr, cells, cols), "cols " + cols);
+					assertArrayEquals(scalarCurr, vectorCurr, "cols " + cols);
+
+					scalarPrev = scalarCurr;
+					vectorPrev = vectorCurr;
+				}
+			}
+		}
+	}
+
+	@Test
+	void kadaneAgrees() {
+		for(int length = 1; length <= MAX_LENGTH; length++) {
+			for(int round = 0; round < ROUNDS; round++) {
+				int offset = random.nextInt(8);
+				int[] nums = ints(offset + length + random.nextInt(8), round % 2 == 0);
+
+				KadaneSummary expected = scalar.kadane(nums, offset, offset + length);
+				KadaneSummary actual = vector.kadane(nums, offset, offset + length);
+
+				String segment = "[" + offset + ", " + (offset + length) + ")";
+				assertEquals(expected.total, actual.total, "total " + segment);
+				assertEquals(expected.prefix, actual.prefix, "prefix " + segment);
+				assertEquals(expected.suffix, actual.suffix, "suffix " + segment);
+				assertEquals(expected.best, actual.best, "best " + segment);
+			}
+		}
+	}
+
+	@Test
+	void emptyInputsAreRejectedByBoth() {
+		assertThrows(IllegalArgumentException.class, () -> scalar.minMax(new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> vector.minMax(new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> scalar.kadane(new int[4], 2, 2));
+		assertThrows(IllegalArgumentException.class, () -> vector.kadane(new int[4], 2, 2));
+	}
+
+}
@@ -0,0 +1,124 @@
+package strategicapproachtodp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * - Climbing Stairs requests answered from a larger n in flight.
+ * - The single solver thread is held by a blocked maxSubArray, so the requests under test stay queued
+ *   until the test releases it.
+ *
+ */
+class SolveServiceTest {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	// Holds the solver thread in maxSubArray until released
+	private static final class BlockingSolver extends AdaptiveSolver {
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public int maxSubArray(int[] nums) {
+			try {
+				release.await();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.maxSubArray(nums);
+		}
+	}
+
+	@Test
+	void smallerNIsNotFailedByALargerNTheExactTableCannotHold() throws Exception {
+		BlockingSolver solver = new BlockingSolver();
+
+		try(SolveService service = new SolveService(solver, ClimbingStairs70_table.exact(), 1, 4)) {
+			CompletableFuture<Integer> blocker = service.maxSubArray(new int[] {1}, TIMEOUT);
+
+			CompletableFuture<Long> tooLarge = service.climbStairs(ClimbingStairs70_table.MAX_EXACT_N + 9, TIMEOUT);
+			CompletableFuture<Long> valid = service.climbStairs(ClimbingStairs70_table.MAX_EXACT_N - 1, TIMEOUT);
+
+			solver.release.countDown();
+
+			ExecutionException failure = assertThrows(ExecutionException.class, tooLarge::get);
+			assertInstanceOf(ArithmeticException.class, failure.getCause());
+			assertEquals(new ClimbingStairs70_matrix().climbStairsExact(ClimbingStairs70_table.MAX_EXACT_N - 1).longValueExact(), valid.get());
+			assertEquals(1, blocker.get());
+		}
+	}
+
+	@Test
+	void smallerNWaitsOnALargerNInFlight() throws Exception {
+		BlockingSolver solver = new BlockingSolver();
+		long modulus = 1_000_000_021;
+
+		try(SolveService service = new SolveService(solver, ClimbingStairs70_table.modulo(modulus), 1, 4)) {
+			service.maxSubArray(new int[] {1}, TIMEOUT);
+
+			CompletableFuture<Long> larger = service.climbStairs(2000, TIMEOUT);
+			CompletableFuture<Long> smaller = service.climbStairs(1000, TIMEOUT);
+
+			solver.release.countDown();
+
+			ClimbingStairs70_matrix matrix = new ClimbingStairs70_matrix();
+			assertEquals(matrix.climbStairsMod(2000, modulus), larger.get());
+			assertEquals(matrix.climbStairsMod(1000, modulus), smaller.get());
+			assertEquals(2, service.submitted()); // the blocker and n = 2000 only
+		}
+	}
+
+	@Test
+	void smallerNIsNotFailedByARejectedLargerN() throws Exception {
+		BlockingSolver solver = new BlockingSolver();
+		long modulus = 1_000_000_033;
+
+		try(SolveService service = new SolveService(solver, ClimbingStairs70_table.modulo(modulus), 1, 1)) {
+			service.maxSubArray(new int[] {1}, TIMEOUT);
+			CompletableFuture<Integer> queued = service.rob(new int[] {2, 7, 9, 3, 1}, TIMEOUT);
+
+			// The queue is full
+			CompletableFuture<Long> rejected = service.climbStairs(2000, TIMEOUT);
+			ExecutionException failure = assertThrows(ExecutionException.class, rejected::get);
+			assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+
+			solver.release.countDown();
+			assertEquals(12, queued.get());
+
+			CompletableFuture<Long> smaller = service.climbStairs(1000, TIMEOUT);
+			assertEquals(new ClimbingStairs70_matrix().climbStairsMod(1000, modulus), smaller.get());
+		}
+	}
+
+	@Test
+	void hugeNOnAModulusTableIsAnsweredWithoutGrowingTheTable() throws Exception {
+		long modulus = 1_000_000_087;
+		ClimbingStairs70_table table = ClimbingStairs70_table.modulo(modulus);
+
+		try(SolveService service = new SolveService(new AdaptiveSolver(), table, 1, 1, 1000)) {
+			CompletableFuture<Long> huge = service.climbStairs(Integer.MAX_VALUE, TIMEOUT);
+			CompletableFuture<Long> pastLimit = service.climbStairs(5000, TIMEOUT);
+
+			// Answered on the calling thread, no queue slot taken
+			assertTrue(huge.isDone() && pastLimit.isDone());
+			assertEquals(0, service.submitted());
+
+			ClimbingStairs70_matrix matrix = new ClimbingStairs70_matrix();
+			assertEquals(matrix.climbStairsMod(Integer.MAX_VALUE, modulus), huge.get());
+			assertEquals(matrix.climbStairsMod(5000, modulus), pastLimit.get());
+			assertTrue(table.computedUpTo() < 5000);
+		}
+	}
+
+}
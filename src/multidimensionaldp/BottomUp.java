@@ -0,0 +1,422 @@
+package multidimensionaldp;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * = Bottom-up engine =
+ * 
+ * - The tabulation counterpart of TopDown: a subclass declares
+ *   - the bounds of its state variables (each i_d lies in [0, bounds[d])),
+ *   - the neighbour offsets its recurrence reads, e.g. {0, -1}, {-1, 0}, {-1, -1} for dp(i, j - 1), dp(i - 1, j), dp(i - 1, j - 1),
+ *   - the base cases: compute(at) can return them directly, and a neighbour outside the table reads outside(),
+ *   and writes the recurrence in compute(at), reading neighbour k through neighbour(k).
+ *   
+ * - The engine picks everything else:
+ *   - Order: a loop order of the variables and a direction (increasing or decreasing) per variable
+ *     such that every neighbour is computed before the cells that read it
+ *     (every offset is lexicographically negative in that order).
+ *   - Layout: one flat long[] (no array per row), the innermost loop variable contiguous,
+ *     padded with a halo of outside() cells as deep as the offsets reach (the padding row and column of MaximalSquare221_dp),
+ *     so reading a neighbour is one array access with no bounds check.
+ *   - Rolling: if the table is not needed after solve() (keepTable()),
+ *     and the offsets only reach w - 1 steps back along the outermost variable,
+ *     only w slices of it are kept, like RollingRows.
+ *   - Tiling: when the offsets inside one outer slice (or inside the whole table when it is kept)
+ *     never point forward along any tiled variable, those variables are walked in TILE-wide tiles,
+ *     so a cell's neighbours are still in cache when it is computed.
+ *   
+ * - visit(at, value) sees every cell once, in evaluation order, e.g. to keep a running max.
+ *
+ */
+public abstract class BottomUp {
+	
+	// Cells per tile side
+	static final int TILE = 64;
+	
+	private final int dims;
+	private final int[] bounds;
+	private final int[][] offsets;
+	
+	// Loop order (outermost first) and direction of each variable
+	private final int[] order;
+	private final boolean[] descending;
+	
+	private final boolean rolling;
+	private final int window;
+	
+	// First loop level walked in tiles, dims if none
+	private final int tiledFrom;
+	
+	private final long[] strides;
+	private final long[] table;
+	private final long[] deltas;
+	
+	// Halo cells before coordinate 0 of each variable
+	private final int[] halo;
+	
+	// Coordinates of the cell being computed
+	private final int[] at;
+	private long index;
+	
+	// Slot of the current outermost coordinate times its stride, kept by enter(...) when rolling
+	private long outerSlot;
+	
+	private final int[] position;
+	
+	protected BottomUp(int[] bounds, int[]... offsets) {
+		this.dims = bounds.length;
+		if(dims == 0) {
+			throw new IllegalArgumentException("a state needs at least one variable");
+		}
+		for(int d = 0; d < dims; d++) {
+			if(bounds[d] <= 0) {
+				throw new IllegalArgumentException("bound of variable " + d + " must be positive: " + bounds[d]);
+			}
+		}
+		for(int[] offset : offsets) {
+			if(offset.length != dims) {
+				throw new IllegalArgumentException("offset " + Arrays.toString(offset) + " needs " + dims + " components");
+			}
+		}
+		
+		this.bounds = bounds.clone();
+		this.offsets = new int[offsets.length][];
+		for(int k = 0; k < offsets.length; k++) {
+			this.offsets[k] = offsets[k].clone();
+		}
+		
+		this.order = new int[dims];
+		this.descending = new boolean[dims];
+		if(!findOrder()) {
+			throw new IllegalArgumentException("the offsets form a cycle, no evaluation order computes every neighbour first");
+		}
+		
+		int outer = order[0];
+		int reach = 0;
+		for(int[] offset : this.offsets) {
+			reach = Math.max(reach, Math.abs(offset[outer]));
+		}
+		this.window = reach + 1;
+		this.rolling = !keepTable() && window < bounds[outer];
+		
+		this.tiledFrom = tiling();
+		
+		// Halo: how far the offsets reach below 0 and past the bound of each variable
+		this.halo = new int[dims];
+		int[] after = new int[dims];
+		for(int[] offset : this.offsets) {
+			for(int d = 0; d < dims; d++) {
+				halo[d] = Math.max(halo[d], -offset[d]);
+				after[d] = Math.max(after[d], offset[d]);
+			}
+		}
+		
+		// Innermost loop variable first. A rolled variable needs no halo:
+		// the slots of the window not written yet still hold outside() (see solve)
+		this.strides = new long[dims];
+		long size = 1;
+		for(int j = dims - 1; j >= 0; j--) {
+			int d = order[j];
+			if(j == 0 && rolling) {
+				halo[d] = 0;
+			}
+			strides[d] = size;
+			size *= (j == 0 && rolling) ? window : (long) halo[d] + bounds[d] + after[d];
+			if(size > Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("table of " + size + "+ cells does not fit in one array");
+			}
+		}
+		
+		this.table = new long[(int) size];
+		this.deltas = new long[this.offsets.length];
+		this.at = new int[dims];
+		this.position = new int[dims];
+		
+		for(int k = 0; k < this.offsets.length; k++) {
+			for(int d = 0; d < dims; d++) {
+				deltas[k] += this.offsets[k][d] * strides[d];
+			}
+		}
+	}
+	
+	/**
+	 * The recurrence relation (and base cases) for the cell at (read only, reused between calls).
+	 * Read neighbour k, at + offsets[k], through neighbour(k).
+	 */
+	protected abstract long compute(int[] at);
+	
+	/**
+	 * Value of a neighbour that falls outside the table (a base case), 0 by default.
+	 */
+	protected long outside() {
+		return 0;
+	}
+	
+	/**
+	 * Whether every cell must still be readable through get(...) after solve(). If not, rolling is allowed.
+	 * Called from the constructor.
+	 */
+	protected boolean keepTable() {
+		return false;
+	}
+	
+	/**
+	 * Called once per cell, right after it is computed.
+	 */
+	protected void visit(int[] at, long value) {}
+	
+	protected final long neighbour(int k) {
+		return table[(int) (index + deltas[k])];
+	}
+	
+	public final void solve() {
+		Arrays.fill(table, outside());
+		walk(0);
+	}
+	
+	/**
+	 * Value of a cell after solve(). With rolling, only the last slices along the outermost variable are still there.
+	 */
+	public final long get(int... cell) {
+		if(cell.length != dims) {
+			throw new IllegalArgumentException("expected " + dims + " state variables, got " + cell.length);
+		}
+		
+		long slot = 0;
+		for(int d = 0; d < dims; d++) {
+			if(cell[d] < 0 || cell[d] >= bounds[d]) {
+				throw new IndexOutOfBoundsException("state variable " + d + " = " + cell[d] + " is outside [0, " + bounds[d] + ")");
+			}
+			slot += (long) slotOf(d, cell[d]) * strides[d];
+		}
+		
+		if(rolling) {
+			int outer = order[0];
+			int last = descending[outer] ? 0 : bounds[outer] - 1;
+			if(Math.abs(last - cell[outer]) >= window) {
+				throw new IllegalStateException("cell " + Arrays.toString(cell) + " was rolled out, override keepTable() to keep it");
+			}
+		}
+		
+		return table[(int) slot];
+	}
+	
+	public final boolean isRolling() {
+		return rolling;
+	}
+	
+	public final boolean isTiled() {
+		return tiledFrom < dims;
+	}
+	
+	/**
+	 * The variables from the outermost loop to the innermost.
+	 */
+	public final int[] loopOrder() {
+		return order.clone();
+	}
+	
+	public final long bytes() {
+		return (long) table.length * Long.BYTES;
+	}
+	
+	// Loop levels: the untiled variables, then the tile origins, then the cells inside a tile
+	private void walk(int level) {
+		int tiled = dims - tiledFrom;
+		
+		if(level < tiledFrom) {
+			int d = order[level];
+			
+			if(level == dims - 1) {
+				if(level == 0 && rolling) {
+					// A single rolled variable, every step moves the window
+					for(int p = 0; p < bounds[d]; p++) {
+						enter(d, p);
+						line(d, p, p + 1);
+					}
+				} else {
+					line(d, 0, bounds[d]);
+				}
+				return;
+			}
+			
+			for(int p = 0; p < bounds[d]; p++) {
+				position[level] = p;
+				enter(d, p);
+				walk(level + 1);
+			}
+			return;
+		}
+		
+		if(level < dims) {
+			// Tile origins
+			int d = order[level];
+			for(int p = 0; p < bounds[d]; p += TILE) {
+				position[level] = p;
+				walk(level + 1);
+			}
+			return;
+		}
+		
+		int j = tiledFrom + (level - dims);
+		int d = order[j];
+		int from = position[j];
+		int to = Math.min(bounds[d], from + TILE);
+		
+		if(level - dims == tiled - 1) {
+			line(d, from, to);
+			return;
+		}
+		
+		for(int p = from; p < to; p++) {
+			at[d] = coordinate(d, p);
+			walk(level + 1);
+		}
+	}
+	
+	// A new value of a variable on an untiled level; the outermost one moves the rolling window
+	private void enter(int d, int p) {
+		at[d] = coordinate(d, p);
+		
+		if(rolling && d == order[0]) {
+			int here = slotOf(d, at[d]);
+			outerSlot = here * strides[d];
+			for(int k = 0; k < offsets.length; k++) {
+				long delta = 0;
+				for(int e = 0; e < dims; e++) {
+					delta += e == d ? 0 : offsets[k][e] * strides[e];
+				}
+				int there = Math.floorMod(at[d] + offsets[k][d], window);
+				deltas[k] = delta + (there - here) * strides[d];
+			}
+		}
+	}
+	
+	// Innermost loop over positions [from, to) of d: the slot moves by one stride per step
+	private void line(int d, int from, int to) {
+		at[d] = coordinate(d, from);
+		
+		long slot = 0;
+		if(rolling) {
+			slot = outerSlot;
+			for(int j = 1; j < dims; j++) {
+				int e = order[j];
+				slot += (at[e] + halo[e]) * strides[e];
+			}
+		} else {
+			for(int e = 0; e < dims; e++) {
+				slot += (at[e] + halo[e]) * strides[e];
+			}
+		}
+		long step = descending[d] ? -strides[d] : strides[d];
+		
+		for(int p = from; p < to; p++, slot += step) {
+			at[d] = coordinate(d, p);
+			index = slot;
+			
+			long value = compute(at);
+			table[(int) slot] = value;
+			visit(at, value);
+		}
+	}
+	
+	private int coordinate(int d, int p) {
+		return descending[d] ? bounds[d] - 1 - p : p;
+	}
+	
+	private int slotOf(int d, int c) {
+		return rolling && d == order[0] ? c % window : c + halo[d];
+	}
+	
+	// First loop order (then directions) in which every offset reads an earlier cell
+	private boolean findOrder() {
+		int[] perm = new int[dims];
+		for(int d = 0; d < dims; d++) {
+			perm[d] = d;
+		}
+		
+		do {
+			for(int signs = 0; signs < 1 << dims; signs++) {
+				if(valid(perm, signs)) {
+					System.arraycopy(perm, 0, order, 0, dims);
+					for(int d = 0; d < dims; d++) {
+						descending[d] = (signs & (1 << d)) != 0;
+					}
+					return true;
+				}
+			}
+		} while(nextPermutation(perm));
+		
+		return false;
+	}
+	
+	private boolean valid(int[] perm, int signs) {
+		for(int[] offset : offsets) {
+			int first = 0;
+			for(int j = 0; j < dims && first == 0; j++) {
+				int d = perm[j];
+				first = (signs & (1 << d)) != 0 ? -offset[d] : offset[d];
+			}
+			if(first >= 0) {
+				return false; // reads itself or a later cell
+			}
+		}
+		return true;
+	}
+	
+	// Level from which the loops can be tiled: inside an outer slice with rolling, otherwise the whole table
+	private int tiling() {
+		int from = rolling ? 1 : 0;
+		if(dims - from < 2) {
+			return dims;
+		}
+		
+		for(int[] offset : offsets) {
+			boolean sameSlice = true;
+			for(int j = 0; j < from; j++) {
+				sameSlice &= offset[order[j]] == 0;
+			}
+			if(!sameSlice) {
+				continue;
+			}
+			
+			for(int j = from; j < dims; j++) {
+				int d = order[j];
+				int step = descending[d] ? -offset[d] : offset[d];
+				if(step > 0) {
+					return dims;
+				}
+			}
+		}
+		
+		return from;
+	}
+	
+	private static boolean nextPermutation(int[] a) {
+		int i = a.length - 2;
+		while(i >= 0 && a[i] >= a[i + 1]) {
+			i--;
+		}
+		if(i < 0) {
+			return false;
+		}
+		
+		int j = a.length - 1;
+		while(a[j] <= a[i]) {
+			j--;
+		}
+		
+		int swap = a[i];
+		a[i] = a[j];
+		a[j] = swap;
+		
+		for(int l = i + 1, r = a.length - 1; l < r; l++, r--) {
+			swap = a[l];
+			a[l] = a[r];
+			a[r] = swap;
+		}
+		return true;
+	}
+
+}
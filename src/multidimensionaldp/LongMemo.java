@@ -0,0 +1,105 @@
+package multidimensionaldp;
+
+import java.util.Arrays;
+
+/**
+ *
+ * = Memo table for packed states =
+ *
+ * - Multi-dimensional states are packed into a single long (see TopDown),
+ *   so the memo only needs long keys and long values.
+ * - Keys and values live in primitive arrays with open addressing (linear probing):
+ *   no boxing, no key objects, and one probe per lookup.
+ *
+ */
+public class LongMemo {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] keys;
+	private long[] values;
+	private boolean[] used;
+	private int size;
+	private int shift;
+	private int mask;
+
+	public LongMemo() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public LongMemo(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(2, expectedSize) - 1) << 2;
+		allocate(Math.max(capacity, DEFAULT_CAPACITY));
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		shift = 64 - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private int slot(long key) {
+		// Fibonacci hashing, take the high bits so every key bit takes part
+		int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+
+		while(used[slot] && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	public boolean containsKey(long key) {
+		return used[slot(key)];
+	}
+
+	public long get(long key, long defaultValue) {
+		int slot = slot(key);
+		return used[slot] ? values[slot] : defaultValue;
+	}
+
+	public void put(long key, long value) {
+		int slot = slot(key);
+
+		if(!used[slot]) {
+			if(2 * (size + 1) > keys.length) {
+				grow();
+				slot = slot(key);
+			}
+			used[slot] = true;
+			keys[slot] = key;
+			size++;
+		}
+
+		values[slot] = value;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	private void grow() {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		boolean[] oldUsed = used;
+
+		allocate(oldKeys.length << 1);
+
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldUsed[i]) {
+				int slot = slot(oldKeys[i]);
+				used[slot] = true;
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+package multidimensionaldp;
+
+/**
+ * 
+ * = 1770. Maximum Score from Performing Multiplication Operations =
+ * 
+ * - A 2D example for the TopDown engine.
+ * - State variables:
+ *   - i, how many operations we have done so far (which multiplier is next).
+ *   - left, how many elements we have taken from the left of nums.
+ *   - The number taken from the right is i - left, so it is not a separate state variable.
+ *   
+ * - dp(i, left) = max(multipliers[i] * nums[left] + dp(i + 1, left + 1),
+ *                     multipliers[i] * nums[right] + dp(i + 1, left))
+ * - Base case: dp(m, left) = 0, no operations left.
+ *
+ */
+public class MaximumScore1770_topdown {
+	
+	public int maximumScore(int[] nums, int[] multipliers) {
+		int n = nums.length;
+		int m = multipliers.length;
+		
+		TopDown solver = new TopDown(m + 1, m + 1) {
+			
+			@Override
+			protected long compute(long state) {
+				int i = get(state, 0);
+				int left = get(state, 1);
+				
+				if(i == m) {return 0;} // Base case
+				
+				int mult = multipliers[i];
+				int right = n - 1 - (i - left);
+				
+				// Recurrence relation
+				return Math.max(mult * nums[left] + dp(i + 1, left + 1), mult * nums[right] + dp(i + 1, left));
+			}
+		};
+		
+		return (int) solver.dp(0, 0);
+	}
+
+}
@@ -0,0 +1,91 @@
+package multidimensionaldp;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * = 847. Shortest Path Visiting All Nodes =
+ * 
+ * - A (mask, node) example for the SubsetDP engine, the shape of a routing problem.
+ * - Nodes may be visited again, so a step from u to v costs the shortest distance between them (BFS from every node).
+ * 
+ * - State variables:
+ *   - mask, the nodes visited so far.
+ *   - node, where we are, always one of the nodes in mask.
+ *   
+ * - dp(mask, v) = min over u in mask without v of dp(mask without v, u) + dist(u, v)
+ * - Base case: dp({v}, v) = 0, we can start anywhere.
+ * - Answer: min over v of dp(all nodes, v).
+ *
+ */
+public class ShortestPathVisitingAllNodes847_subsetdp {
+	
+	public int shortestPathLength(int[][] graph) {
+		int n = graph.length;
+		if(n == 0) {return 0;}
+		
+		int[][] dist = distances(graph);
+		
+		SubsetDP solver = new SubsetDP(n, n, Long.MAX_VALUE) {
+			
+			@Override
+			protected long compute(int mask, int v) {
+				if((mask & (1 << v)) == 0) {return unreachable();} // v must be in mask
+				
+				int rest = mask ^ (1 << v);
+				if(rest == 0) {return 0;} // Base case
+				
+				// Recurrence relation
+				long best = unreachable();
+				for(int bits = rest; bits != 0; bits &= bits - 1) {
+					int u = Integer.numberOfTrailingZeros(bits);
+					long before = value(rest, u);
+					
+					if(before != unreachable() && dist[u][v] != Integer.MAX_VALUE) {
+						best = Math.min(best, before + dist[u][v]);
+					}
+				}
+				return best;
+			}
+		};
+		
+		solver.solve();
+		
+		long best = Long.MAX_VALUE;
+		for(int v = 0; v < n; v++) {
+			best = Math.min(best, solver.get(solver.fullMask(), v));
+		}
+		return (int) best;
+	}
+	
+	// Unweighted shortest distances, Integer.MAX_VALUE when unreachable
+	private static int[][] distances(int[][] graph) {
+		int n = graph.length;
+		int[][] dist = new int[n][];
+		int[] queue = new int[n];
+		
+		for(int source = 0; source < n; source++) {
+			int[] d = new int[n];
+			Arrays.fill(d, Integer.MAX_VALUE);
+			d[source] = 0;
+			
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = source;
+			
+			while(head < tail) {
+				int u = queue[head++];
+				for(int v : graph[u]) {
+					if(d[v] == Integer.MAX_VALUE) {
+						d[v] = d[u] + 1;
+						queue[tail++] = v;
+					}
+				}
+			}
+			dist[source] = d;
+		}
+		
+		return dist;
+	}
+
+}
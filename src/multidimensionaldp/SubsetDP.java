@@ -0,0 +1,203 @@
+package multidimensionaldp;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 
+ * = Subset DP engine =
+ * 
+ * - For states (mask, node): mask is a subset of n elements ("the i th bit indicates if the i th city has been visited"),
+ *   node one of k extra values (usually the element we are at, k = n, or k = 1 when the mask alone is the state).
+ * - Memoizing those in a HashMap keyed by (mask, node) boxes every state, and 2^24 x 24 of them do not fit in a heap that way.
+ * 
+ * - Here every state is a slot of one flat long[] of 2^n x k values, at mask * k + node, evaluated bottom-up.
+ * - The recurrence may only read masks with fewer elements (usually mask without one bit),
+ *   so all masks with the same popcount (a layer) are independent:
+ *   - layers run in order 0, 1, ..., n,
+ *   - the masks of a layer are split across cores with fork/join.
+ *   
+ * - Pruning (optional): a mask none of whose predecessors (mask without one bit) has a reachable value
+ *   is not evaluated at all, its values stay unreachable.
+ *   Layers are evaluated in full until the first one with a reachable value, which is where the base cases live.
+ *   
+ * - Memory: 8 * 2^n * k bytes for the table, plus 4 * 2^n for the layer order (and 2^n with pruning),
+ *   e.g. about 3.3 GB for n = k = 24.
+ *
+ */
+public abstract class SubsetDP {
+	
+	// Masks per fork/join leaf
+	static final int GRAIN = 1 << 11;
+	
+	protected final int n;
+	protected final int k;
+	
+	private final long unreachable;
+	private final long[] table;
+	
+	// Every mask, sorted by popcount: layer p is order[layerStart[p] .. layerStart[p + 1])
+	private final int[] order;
+	private final int[] layerStart;
+	
+	// With pruning, whether a mask has at least one reachable value
+	private boolean[] reached;
+	
+	/**
+	 * @param unreachable the value of a state that cannot occur (e.g. Long.MAX_VALUE when minimizing)
+	 */
+	protected SubsetDP(int n, int k, long unreachable) {
+		if(n < 0 || n > 30) {
+			throw new IllegalArgumentException("n must be in [0, 30]: " + n);
+		}
+		if(k <= 0) {
+			throw new IllegalArgumentException("k must be positive: " + k);
+		}
+		if((1L << n) * k > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("2^" + n + " x " + k + " states do not fit in one array");
+		}
+		
+		this.n = n;
+		this.k = k;
+		this.unreachable = unreachable;
+		this.table = new long[(1 << n) * k];
+		
+		// Counting sort of the masks by popcount
+		layerStart = new int[n + 2];
+		for(int mask = 0; mask < 1 << n; mask++) {
+			layerStart[Integer.bitCount(mask) + 1]++;
+		}
+		for(int p = 1; p <= n + 1; p++) {
+			layerStart[p] += layerStart[p - 1];
+		}
+		
+		order = new int[1 << n];
+		int[] next = Arrays.copyOf(layerStart, n + 1);
+		for(int mask = 0; mask < 1 << n; mask++) {
+			order[next[Integer.bitCount(mask)]++] = mask;
+		}
+	}
+	
+	/**
+	 * The recurrence relation (and base cases) for one state.
+	 * Read other states through value(mask', node') with popcount(mask') < popcount(mask).
+	 */
+	protected abstract long compute(int mask, int node);
+	
+	protected final long value(int mask, int node) {
+		return table[mask * k + node];
+	}
+	
+	protected final long unreachable() {
+		return unreachable;
+	}
+	
+	public final int fullMask() {
+		return (1 << n) - 1;
+	}
+	
+	public final void solve() {
+		solve(ForkJoinPool.commonPool(), false);
+	}
+	
+	/**
+	 * Evaluates every state, layer by layer.
+	 */
+	public final void solve(ForkJoinPool pool, boolean prune) {
+		reached = prune ? new boolean[1 << n] : null;
+		boolean pruning = false;
+		
+		for(int p = 0; p <= n; p++) {
+			int from = layerStart[p];
+			int to = layerStart[p + 1];
+			
+			Layer layer = new Layer(from, to, pruning);
+			if(to - from <= GRAIN) {
+				layer.compute();
+			} else {
+				pool.invoke(layer);
+			}
+			
+			if(prune && !pruning) {
+				for(int i = from; i < to && !pruning; i++) {
+					pruning = reached[order[i]];
+				}
+			}
+		}
+		
+		reached = null;
+	}
+	
+	/**
+	 * Answer for a state, after solve().
+	 */
+	public final long get(int mask, int node) {
+		if(mask < 0 || mask > fullMask() || node < 0 || node >= k) {
+			throw new IndexOutOfBoundsException("state (" + mask + ", " + node + ") is outside 2^" + n + " x " + k);
+		}
+		return value(mask, node);
+	}
+	
+	public final long bytes() {
+		return (long) table.length * Long.BYTES + (long) order.length * Integer.BYTES;
+	}
+	
+	private void evaluate(int mask, boolean pruning) {
+		int base = mask * k;
+		
+		if(pruning && !anyPredecessorReached(mask)) {
+			Arrays.fill(table, base, base + k, unreachable);
+			return;
+		}
+		
+		boolean any = false;
+		for(int node = 0; node < k; node++) {
+			long value = compute(mask, node);
+			table[base + node] = value;
+			any |= value != unreachable;
+		}
+		
+		if(reached != null) {
+			reached[mask] = any;
+		}
+	}
+	
+	private boolean anyPredecessorReached(int mask) {
+		for(int bits = mask; bits != 0; bits &= bits - 1) {
+			if(reached[mask ^ Integer.lowestOneBit(bits)]) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private final class Layer extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int from;
+		private final int to;
+		private final boolean pruning;
+		
+		Layer(int from, int to, boolean pruning) {
+			this.from = from;
+			this.to = to;
+			this.pruning = pruning;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from <= GRAIN) {
+				for(int i = from; i < to; i++) {
+					evaluate(order[i], pruning);
+				}
+				return;
+			}
+			
+			int mid = (from + to) >>> 1;
+			invokeAll(new Layer(from, mid, pruning), new Layer(mid, to, pruning));
+		}
+	}
+
+}
@@ -1,4 +1,7 @@
 package multidimensionaldp;
+
+import java.util.Arrays;
+
 /**
  * 
  * = Multidimensional DP =
@@ -49,9 +52,247 @@ package multidimensionaldp;
  * - In the next article, we'll walk through another example using the framework with a 2D DP problem.  
  * 
  *      
+ * = Engine =
+ * 
+ * - A subclass describes its state as a fixed tuple of bounded ints (each variable i_d lies in [0, bounds[d])),
+ *   and writes the recurrence in compute(state).
+ * 
+ * - Instead of hashing a String or a List per call, the tuple is packed into one long (mixed radix),
+ *   so a state never allocates:
+ *   
+ *     state = i_0 * stride_0 + i_1 * stride_1 + ... + i_{k-1}      (stride_{k-1} = 1)
+ *     
+ * - If the whole state space is small enough, the packed state is directly an index into a flat array.
+ * - Otherwise, it is the key of a primitive hash table (LongMemo), which only holds the states we visit.
+ * 
+ * - dpStackSafe(state) evaluates the same recurrence without deep recursion:
+ *   pending states are kept on an explicit stack, and a state whose dependencies are not memoized yet
+ *   is retried once they are (see strategicapproachtodp.IterativeTopDown).
  *      
  *
  */
-public class TopDown {
+public abstract class TopDown {
+	
+	// Largest state space that is memoized in a flat array instead of a hash table
+	static final long DENSE_LIMIT = 1 << 22;
+	
+	private final int[] bounds;
+	private final long[] strides;
+	private final long stateCount;
+	
+	// Dense layout
+	private long[] table;
+	private long[] computed;
+	
+	// Sparse layout
+	private LongMemo memo;
+	
+	// Stack-safe evaluation
+	private boolean stackSafe;
+	private boolean missing;
+	private long[] pending;
+	private int top;
+	
+	protected TopDown(int... bounds) {
+		if(bounds.length == 0) {
+			throw new IllegalArgumentException("a state needs at least one variable");
+		}
+		
+		this.bounds = bounds.clone();
+		this.strides = new long[bounds.length];
+		
+		long count = 1;
+		for(int d = bounds.length - 1; d >= 0; d--) {
+			if(bounds[d] <= 0) {
+				throw new IllegalArgumentException("bound of variable " + d + " must be positive: " + bounds[d]);
+			}
+			strides[d] = count;
+			count = Math.multiplyExact(count, bounds[d]);
+		}
+		this.stateCount = count;
+		
+		reset();
+	}
+	
+	/**
+	 * The recurrence relation (and base cases) for one packed state.
+	 * Read the state variables back with get(state, d) and recurse through dp(...).
+	 */
+	protected abstract long compute(long state);
+	
+	/**
+	 * Memoized answer for a packed state.
+	 */
+	protected final long dp(long state) {
+		
+		if(table != null) {
+			int index = (int) state;
+			if((computed[index >>> 6] & (1L << index)) != 0) {
+				return table[index];
+			}
+		} else {
+			long value = memo.get(state, Long.MIN_VALUE);
+			if(value != Long.MIN_VALUE || memo.containsKey(state)) {
+				return value;
+			}
+		}
+		
+		if(stackSafe) {
+			// Do not recurse: schedule the first missing dependency, the current attempt is retried later
+			if(!missing) {
+				missing = true;
+				push(state);
+			}
+			return 0;
+		}
+		
+		long value = compute(state);
+		store(state, value);
+		return value;
+	}
+	
+	/**
+	 * Same answer as dp(state), with constant call stack depth.
+	 */
+	public final long dpStackSafe(long root) {
+		
+		if(pending == null) {
+			pending = new long[16];
+		}
+		
+		if(isMemoized(root)) {
+			return dp(root);
+		}
+		
+		stackSafe = true;
+		top = 0;
+		push(root);
+		
+		try {
+			while(top > 0) {
+				long state = pending[top - 1];
+				
+				missing = false;
+				long value = compute(state);
+				
+				if(!missing) {
+					store(state, value);
+					top--;
+					
+					// Drop states that were memoized while they waited on the stack
+					while(top > 0 && isMemoized(pending[top - 1])) {
+						top--;
+					}
+				}
+			}
+		} finally {
+			stackSafe = false;
+		}
+		
+		return dp(root);
+	}
+	
+	private boolean isMemoized(long state) {
+		if(table != null) {
+			int index = (int) state;
+			return (computed[index >>> 6] & (1L << index)) != 0;
+		}
+		return memo.containsKey(state);
+	}
+	
+	private void store(long state, long value) {
+		if(table != null) {
+			int index = (int) state;
+			table[index] = value;
+			computed[index >>> 6] |= 1L << index;
+		} else {
+			memo.put(state, value);
+		}
+	}
+	
+	private void push(long state) {
+		if(top == pending.length) {
+			pending = Arrays.copyOf(pending, top << 1);
+		}
+		pending[top++] = state;
+	}
+	
+	protected final long dp(int i0, int i1) {
+		return dp(state(i0, i1));
+	}
+	
+	protected final long dp(int i0, int i1, int i2) {
+		return dp(state(i0, i1, i2));
+	}
+	
+	protected final long dp(int i0, int i1, int i2, int i3) {
+		return dp(state(i0, i1, i2, i3));
+	}
+	
+	protected final long state(int i0, int i1) {
+		checkArity(2);
+		return check(0, i0) * strides[0] + check(1, i1);
+	}
+	
+	protected final long state(int i0, int i1, int i2) {
+		checkArity(3);
+		return check(0, i0) * strides[0] + check(1, i1) * strides[1] + check(2, i2);
+	}
+	
+	protected final long state(int i0, int i1, int i2, int i3) {
+		checkArity(4);
+		return check(0, i0) * strides[0] + check(1, i1) * strides[1] + check(2, i2) * strides[2] + check(3, i3);
+	}
+	
+	protected final long state(int... values) {
+		checkArity(values.length);
+		long state = 0;
+		for(int d = 0; d < values.length; d++) {
+			state += check(d, values[d]) * strides[d];
+		}
+		return state;
+	}
+	
+	/**
+	 * Value of state variable d inside a packed state.
+	 */
+	protected final int get(long state, int d) {
+		return (int) ((state / strides[d]) % bounds[d]);
+	}
+	
+	public final long stateCount() {
+		return stateCount;
+	}
+	
+	/**
+	 * Forget every memoized state, e.g. before solving a new input.
+	 */
+	public void reset() {
+		if(stateCount <= DENSE_LIMIT) {
+			if(table == null) {
+				table = new long[(int) stateCount];
+				computed = new long[(int) ((stateCount + 63) >>> 6)];
+			} else {
+				Arrays.fill(computed, 0L);
+			}
+		} else if(memo == null) {
+			memo = new LongMemo();
+		} else {
+			memo.clear();
+		}
+	}
+	
+	private long check(int d, int value) {
+		if(value < 0 || value >= bounds[d]) {
+			throw new IndexOutOfBoundsException("state variable " + d + " = " + value + " is outside [0, " + bounds[d] + ")");
+		}
+		return value;
+	}
+	
+	private void checkArity(int arity) {
+		if(arity != bounds.length) {
+			throw new IllegalArgumentException("expected " + bounds.length + " state variables, got " + arity);
+		}
+	}
 
 }
@@ -0,0 +1,218 @@
+package strategicapproachtodp;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 
+ * = Adaptive strategy selection =
+ * 
+ * - No variant wins everywhere: the parallel ones only pay off above some input size,
+ *   and below it the fork/join overhead makes them slower than the plain loop.
+ * - This solver implements every problem's interface and picks a variant per call from the input:
+ *   - House Robber, Maximum Subarray, Delete and Earn: the sequential loop, or the parallel reduction from a size threshold.
+ *   - Maximal Square: the char[][] dp for small grids, the bit-packed wavefront from a cell-count threshold.
+ *   - Climbing Stairs: the bottom-up loop, or matrix powering from a threshold on n.
+ *   - Delete and Earn also adapts to its value range by itself: small ranges are counted in an array,
+ *     sparse ones sorted and compressed (see DistinctPoints).
+ *   
+ * - Thresholds come from the defaults below, from a config (fromConfig), or from a short startup microbenchmark (calibrate).
+ *
+ */
+public class AdaptiveSolver implements ClimbingStairsSolver, HouseRobberSolver, MaxSubArraySolver, DeleteAndEarnSolver, MaximalSquareSolver {
+	
+	public static final String CLIMB_STAIRS_MATRIX = "dp.threshold.climbStairs.matrix";
+	public static final String HOUSE_ROBBER_PARALLEL = "dp.threshold.houseRobber.parallel";
+	public static final String MAX_SUBARRAY_PARALLEL = "dp.threshold.maxSubArray.parallel";
+	public static final String DELETE_AND_EARN_PARALLEL = "dp.threshold.deleteAndEarn.parallel";
+	public static final String MAXIMAL_SQUARE_BITPACKED = "dp.threshold.maximalSquare.bitpacked";
+	
+	static final int DEFAULT_CLIMB_STAIRS_MATRIX = 32;
+	static final int DEFAULT_PARALLEL = 1 << 18;
+	static final int DEFAULT_BITPACKED = 1 << 20;
+	
+	// Largest input the calibration tries, and how many timed runs per size
+	private static final int CALIBRATION_MAX = 1 << 22;
+	private static final int CALIBRATION_RUNS = 5;
+	
+	private final int climbStairsMatrix;
+	private final int houseRobberParallel;
+	private final int maxSubArrayParallel;
+	private final int deleteAndEarnParallel;
+	private final long maximalSquareBitpacked;
+	
+	private final HouseRobber198_parallel houseRobber = new HouseRobber198_parallel();
+	private final MaximunSubarray53_parallel maxSubArray = new MaximunSubarray53_parallel();
+	private final DeleteAndEarn740_parallel deleteAndEarn = new DeleteAndEarn740_parallel();
+	private final MaximalSquare221_bitpacked maximalSquare = new MaximalSquare221_bitpacked();
+	
+	public AdaptiveSolver() {
+		this(DEFAULT_CLIMB_STAIRS_MATRIX, DEFAULT_PARALLEL, DEFAULT_PARALLEL, DEFAULT_PARALLEL, DEFAULT_BITPACKED);
+	}
+	
+	public AdaptiveSolver(int climbStairsMatrix, int houseRobberParallel, int maxSubArrayParallel, int deleteAndEarnParallel, long maximalSquareBitpacked) {
+		this.climbStairsMatrix = climbStairsMatrix;
+		this.houseRobberParallel = houseRobberParallel;
+		this.maxSubArrayParallel = maxSubArrayParallel;
+		this.deleteAndEarnParallel = deleteAndEarnParallel;
+		this.maximalSquareBitpacked = maximalSquareBitpacked;
+	}
+	
+	/**
+	 * Thresholds from a config, missing keys keep their default.
+	 */
+	public static AdaptiveSolver fromConfig(Properties config) {
+		return new AdaptiveSolver(
+				intProperty(config, CLIMB_STAIRS_MATRIX, DEFAULT_CLIMB_STAIRS_MATRIX),
+				intProperty(config, HOUSE_ROBBER_PARALLEL, DEFAULT_PARALLEL),
+				intProperty(config, MAX_SUBARRAY_PARALLEL, DEFAULT_PARALLEL),
+				intProperty(config, DELETE_AND_EARN_PARALLEL, DEFAULT_PARALLEL),
+				longProperty(config, MAXIMAL_SQUARE_BITPACKED, DEFAULT_BITPACKED));
+	}
+	
+	/**
+	 * Measures each sequential / parallel pair on random inputs of doubling size,
+	 * and sets each threshold to the smallest size where the parallel variant is faster.
+	 * Takes about a second.
+	 */
+	public static AdaptiveSolver calibrate() {
+		SplittableRandom random = new SplittableRandom(0x5EED);
+		int[] nums = new int[CALIBRATION_MAX];
+		for(int i = 0; i < nums.length; i++) {
+			nums[i] = random.nextInt(1000);
+		}
+		
+		HouseRobber198_parallel houseRobber = new HouseRobber198_parallel();
+		MaximunSubarray53_parallel maxSubArray = new MaximunSubarray53_parallel();
+		DeleteAndEarn740_parallel deleteAndEarn = new DeleteAndEarn740_parallel();
+		MaximalSquare221_bitpacked maximalSquare = new MaximalSquare221_bitpacked();
+		
+		int houseRobberParallel = crossover(nums,
+				input -> new HouseRobber198_dp_topdownoptimized().rob(input), houseRobber::rob);
+		int maxSubArrayParallel = crossover(nums,
+				input -> new MaximunSubarray53_dp().maxSubArray(input), maxSubArray::maxSubArray);
+		int deleteAndEarnParallel = crossover(nums,
+				input -> new DeleteAndEarn740_bottomup().deleteAndEarn(input), deleteAndEarn::deleteAndEarn);
+		
+		// Maximal Square: compare on square grids, the threshold is in cells
+		long bitpacked = Long.MAX_VALUE;
+		for(int side = 64; (long) side * side <= CALIBRATION_MAX; side <<= 1) {
+			char[][] matrix = new char[side][side];
+			for(char[] row : matrix) {
+				for(int j = 0; j < side; j++) {
+					row[j] = random.nextInt(10) == 0 ? '0' : '1';
+				}
+			}
+			
+			long dp = time(() -> new MaximalSquare221_dp().maximalSquare(matrix));
+			long packed = time(() -> (int) maximalSquare.maximalSquare(MaximalSquare221_bitpacked.pack(matrix), matrix.length));
+			
+			if(packed < dp) {
+				bitpacked = (long) side * side;
+				break;
+			}
+		}
+		
+		return new AdaptiveSolver(DEFAULT_CLIMB_STAIRS_MATRIX, houseRobberParallel, maxSubArrayParallel, deleteAndEarnParallel, bitpacked);
+	}
+	
+	@Override
+	public int climbStairs(int n) {
+		return n < climbStairsMatrix ? new ClimbingStairs70_bottomup().climbStairs(n) : new ClimbingStairs70_matrix().climbStairs(n);
+	}
+	
+	@Override
+	public int rob(int[] nums) {
+		return nums.length < houseRobberParallel ? new HouseRobber198_dp_topdownoptimized().rob(nums) : houseRobber.rob(nums);
+	}
+	
+	@Override
+	public int maxSubArray(int[] nums) {
+		return nums.length < maxSubArrayParallel ? new MaximunSubarray53_dp().maxSubArray(nums) : maxSubArray.maxSubArray(nums);
+	}
+	
+	@Override
+	public int deleteAndEarn(int[] nums) {
+		return nums.length < deleteAndEarnParallel ? new DeleteAndEarn740_bottomup().deleteAndEarn(nums) : deleteAndEarn.deleteAndEarn(nums);
+	}
+	
+	@Override
+	public int maximalSquare(char[][] matrix) {
+		int cols = matrix.length > 0 ? matrix[0].length : 0;
+		
+		if((long) matrix.length * cols < maximalSquareBitpacked) {
+			return new MaximalSquare221_dp().maximalSquare(matrix);
+		}
+		return Math.toIntExact(maximalSquare.maximalSquare(MaximalSquare221_bitpacked.pack(matrix), cols));
+	}
+	
+	public Properties thresholds() {
+		Properties config = new Properties();
+		config.setProperty(CLIMB_STAIRS_MATRIX, Integer.toString(climbStairsMatrix));
+		config.setProperty(HOUSE_ROBBER_PARALLEL, Integer.toString(houseRobberParallel));
+		config.setProperty(MAX_SUBARRAY_PARALLEL, Integer.toString(maxSubArrayParallel));
+		config.setProperty(DELETE_AND_EARN_PARALLEL, Integer.toString(deleteAndEarnParallel));
+		config.setProperty(MAXIMAL_SQUARE_BITPACKED, Long.toString(maximalSquareBitpacked));
+		return config;
+	}
+	
+	private static int intProperty(Properties config, String key, int defaultValue) {
+		return Math.toIntExact(longProperty(config, key, defaultValue));
+	}
+	
+	private static long longProperty(Properties config, String key, long defaultValue) {
+		String value = config.getProperty(key);
+		if(value == null) {
+			return defaultValue;
+		}
+		
+		try {
+			return Long.parseLong(value.trim());
+		} catch(NumberFormatException e) {
+			throw new IllegalArgumentException("threshold " + key + " is not a number: " + value, e);
+		}
+	}
+	
+	// Smallest prefix length of nums from which parallel beats sequential (at two sizes in a row, to ride out noise),
+	// Integer.MAX_VALUE if it never does
+	private static int crossover(int[] nums, ToIntFunction<int[]> sequential, ToIntFunction<int[]> parallel) {
+		int candidate = Integer.MAX_VALUE;
+		
+		for(int n = 1 << 12; n <= nums.length; n <<= 1) {
+			int[] input = Arrays.copyOf(nums, n);
+			
+			long sequentialTime = time(() -> sequential.applyAsInt(input));
+			long parallelTime = time(() -> parallel.applyAsInt(input));
+			
+			if(parallelTime >= sequentialTime) {
+				candidate = Integer.MAX_VALUE;
+			} else if(candidate == Integer.MAX_VALUE) {
+				candidate = n;
+			} else {
+				return candidate;
+			}
+		}
+		return candidate;
+	}
+	
+	// Best of a few runs, after one warm-up run
+	private static long time(IntSupplier run) {
+		long best = Long.MAX_VALUE;
+		int sink = run.getAsInt();
+		
+		for(int i = 0; i < CALIBRATION_RUNS; i++) {
+			long start = System.nanoTime();
+			sink += run.getAsInt();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		
+		if(sink == 42) {
+			Thread.yield(); // keep the results alive
+		}
+		return best;
+	}
+
+}
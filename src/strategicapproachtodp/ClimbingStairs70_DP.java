@@ -1,6 +1,6 @@
 package strategicapproachtodp;
 
-import java.util.HashMap;
+import java.util.function.IntUnaryOperator;
 
 /**
  * 
@@ -14,14 +14,34 @@ import java.util.HashMap;
  * - Furthermore, when using top-down DP, some problems do not require us to solve every single subproblem,
  *   in which case an array may use more memory than a hashmap.  
  * 
+ * - Here we use IntMemo, a hashmap specialised for int states:
+ *   no boxing, and a memo hit is a single lookup instead of containsKey + get.
+ *   
+ * - The answer does not depend on any input, so instances can also share one SharedMemo across threads and requests;
+ *   such an instance is thread-safe (climbStairsStackSafe then runs on a memo of its own per call).
+ * 
  * 
  *
  */
 
 // With memoization, our time complexity drops to O(n) - astronomically better, literally.
-public class ClimbingStairs70_DP {
+public class ClimbingStairs70_DP implements ClimbingStairsSolver {
+	
+	private IntMemo memo = new IntMemo();
+	
+	// When set, states are read from / stored in this memo instead, under one scope
+	private final SharedMemo shared;
 	
-	private HashMap<Integer, Integer> memo = new HashMap<>();
+	// Kept in a field so the lambda is not re-allocated on every call
+	private final IntUnaryOperator recurrence = i -> dp(i - 1) + dp(i - 2);
+	
+	public ClimbingStairs70_DP() {
+		this(null);
+	}
+	
+	public ClimbingStairs70_DP(SharedMemo shared) {
+		this.shared = shared;
+	}
 	
 	private int dp(int i) {
 		
@@ -29,16 +49,40 @@ public class ClimbingStairs70_DP {
 			return i;
 		}
 		
-		// Instead of just returning dp(i - 1) + dp(i - 2), calculate it once and then store it inside a hashmap to refer to in the future.
-		if(!memo.containsKey(i))
-			memo.put(i, dp(i - 1) + dp(i - 2));
+		if(shared != null) {
+			return shared.getOrCompute(0, i, recurrence);
+		}
 		
-		return memo.get(i);
+		// Instead of just returning dp(i - 1) + dp(i - 2), calculate it once and then store it inside the memo to refer to in the future.
+		return memo.getOrCompute(i, recurrence);
 	}
 	
 	
+	@Override
 	public int climbStairs(int n) {
-		return dp(n);
+		
+		// Shared memo counters mix every thread's lookups, so a shared solve is not recorded
+		if(shared != null) {
+			return dp(n);
+		}
+		
+		long start = SolveMetrics.start();
+		memo.countLookups(start != 0);
+		long hits = memo.hits();
+		long misses = memo.misses();
+		
+		int ways = dp(n);
+		
+		SolveMetrics.recordMemo("ClimbingStairs70_DP", memo, hits, misses, start);
+		return ways;
+	}
+	
+	// Same recurrence, evaluated on an explicit stack so large n does not overflow the call stack.
+	// IterativeTopDown needs an IntMemo, so with a shared memo each call gets its own instead (the instance memo is not thread-safe).
+	public int climbStairsStackSafe(int n) {
+		IntMemo states = shared != null ? new IntMemo(n) : memo;
+		IterativeTopDown solver = new IterativeTopDown((i, memo) -> i <= 2 ? i : memo.dp(i - 1) + memo.dp(i - 2), states);
+		return solver.dp(n);
 	}
 	
 	
@@ -1,4 +1,7 @@
 package strategicapproachtodp;
+
+import java.util.Arrays;
+
 /**
  * = bottom-up =
  * 
@@ -23,27 +26,70 @@ package strategicapproachtodp;
  * - This is the essence of dynamic programming.
  *
  */
-public class ClimbingStairs70_bottomup {
+public class ClimbingStairs70_bottomup implements ClimbingStairsSolver {
 	
+	@Override
 	public int climbStairs(int n) {
 	
 	if(n == 1)
 		return 1;
 	
-	// An array that represents the answer to the problem for a given state
-	int[] dp = new int[n + 1];
-	dp[1] = 1; // base cases
-	dp[2] = 2; // base cases
+	long start = SolveMetrics.start();
+	
+	// A table that represents the answer to the problem for a given state.
+	// The recurrence only looks 2 steps back, so we only keep the last 3 states instead of n + 1.
+	RollingTable dp = new RollingTable(3);
+	dp.set(1, 1); // base cases
+	dp.set(2, 2); // base cases
 	
 	for(int i = 3; i <= n; i++) {
-		dp[i] = dp[i - 1] + dp[i - 2]; // Recurrence relation
+		dp.set(i, dp.get(i - 1) + dp.get(i - 2)); // Recurrence relation
 	}
 	
 	
-	return dp[n];
+	SolveMetrics.recordTable("ClimbingStairs70_bottomup", n, dp.bytes(), start);
+	return dp.get(n);
 	
 	
 	
 	}
+	
+	/**
+	 * climbStairs for every n of a batch: results[i] = climbStairs(ns[i]).
+	 * 
+	 * - The queries are sorted by n and answered during one walk up to the largest n,
+	 *   so a batch costs O(k log k + max n) time and O(k) space instead of O(k * max n).
+	 */
+	public void climbStairsAll(int[] ns, int[] results) {
+		if(results.length < ns.length) {
+			throw new IllegalArgumentException(ns.length + " queries but only " + results.length + " results");
+		}
+		
+		// n in the high half, query index in the low half
+		long[] queries = new long[ns.length];
+		for(int i = 0; i < ns.length; i++) {
+			if(ns[i] < 1) {
+				throw new IllegalArgumentException("n must be positive: " + ns[i]);
+			}
+			queries[i] = ((long) ns[i] << 32) | i;
+		}
+		Arrays.sort(queries);
+		
+		int step = 1;
+		int current = 1; // ways to reach step
+		int previous = 1; // ways to reach step - 1 (step 0 has a single, empty, way)
+		
+		for(long query : queries) {
+			int n = (int) (query >>> 32);
+			
+			for(; step < n; step++) {
+				int next = current + previous; // Recurrence relation
+				previous = current;
+				current = next;
+			}
+			
+			results[(int) query] = current;
+		}
+	}
 
 }
@@ -0,0 +1,261 @@
+package strategicapproachtodp;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 
+ * = Approach : matrix exponentiation =
+ * 
+ * - For steps {1, 2}, the recurrence dp(i) = dp(i - 1) + dp(i - 2) is linear,
+ *   so one step of it is a multiplication by a fixed matrix:
+ *   
+ *     | dp(i)     |   | 1  1 |   | dp(i - 1) |
+ *     | dp(i - 1) | = | 1  0 | x | dp(i - 2) |
+ *     
+ * - Then dp(n) can be read from M^n, and M^n takes O(log n) multiplications by repeated squaring.
+ * 
+ * - For a general step set S (e.g. {1, 2, 3}) with largest step k,
+ *   dp(i) = sum of dp(i - s) for s in S, and M is the k x k companion matrix:
+ *   - row 0 has a 1 in column s - 1 for every step s in S,
+ *   - row r > 0 has a 1 in column r - 1 (it shifts the window down by one).
+ * - Base case dp(0) = 1 (one way to stay at the bottom) and dp(i) = 0 for i < 0,
+ *   so dp(n) = (M^n)[0][0]. For S = {1, 2} this is 1, 2, 3, 5, ... like the other ClimbingStairs70 classes.
+ * 
+ * - Time O(k^3 log n).
+ * - dp(n) grows exponentially, so there are three result modes:
+ *   - climbStairsExact, exact BigInteger.
+ *   - climbStairsMod, long modulo a given modulus.
+ *   - climbStairs, int that throws ArithmeticException instead of silently overflowing (past n = 45 for {1, 2}).
+ *     It powers the matrix over long with exact arithmetic, so a large n fails after a few multiplications
+ *     instead of building the whole BigInteger first.
+ *
+ */
+public class ClimbingStairs70_matrix implements ClimbingStairsSolver {
+	
+	private final int[] steps;
+	private final int k;
+	
+	public ClimbingStairs70_matrix() {
+		this(1, 2);
+	}
+	
+	public ClimbingStairs70_matrix(int... steps) {
+		if(steps.length == 0) {
+			throw new IllegalArgumentException("at least one step size is needed");
+		}
+		
+		int[] sorted = steps.clone();
+		Arrays.sort(sorted);
+		
+		if(sorted[0] <= 0) {
+			throw new IllegalArgumentException("step sizes must be positive: " + Arrays.toString(steps));
+		}
+		for(int i = 1; i < sorted.length; i++) {
+			if(sorted[i] == sorted[i - 1]) {
+				throw new IllegalArgumentException("duplicate step size " + sorted[i]);
+			}
+		}
+		
+		this.steps = sorted;
+		this.k = sorted[sorted.length - 1];
+	}
+	
+	@Override
+	public int climbStairs(int n) {
+		checkN(n);
+		
+		long ways;
+		try {
+			ways = climbStairsLongExact(n);
+		} catch(ArithmeticException e) {
+			// With a step of 1, dp never decreases and every entry of M^i (i <= n) is at most |S| * dp(n),
+			// so a matrix entry past a long means dp(n) is past an int.
+			// Without it (e.g. {2, 3}) an entry can outgrow the answer, so let the exact power decide.
+			if(steps[0] != 1) {
+				return climbStairsExact(n).intValueExact();
+			}
+			throw new ArithmeticException("climbStairs(" + n + ") overflows an int");
+		}
+		
+		return Math.toIntExact(ways);
+	}
+	
+	public BigInteger climbStairsExact(long n) {
+		checkN(n);
+		
+		BigInteger[][] result = identity();
+		BigInteger[][] base = companion();
+		
+		for(long e = n; e > 0; e >>= 1) {
+			if((e & 1) != 0) {
+				result = multiply(result, base);
+			}
+			if(e > 1) {
+				base = multiply(base, base);
+			}
+		}
+		
+		return result[0][0];
+	}
+	
+	public long climbStairsMod(long n, long modulus) {
+		checkN(n);
+		if(modulus <= 0) {
+			throw new IllegalArgumentException("modulus must be positive: " + modulus);
+		}
+		
+		long[][] result = new long[k][k];
+		for(int i = 0; i < k; i++) {
+			result[i][i] = 1 % modulus;
+		}
+		
+		long[][] base = new long[k][k];
+		for(int s : steps) {
+			base[0][s - 1] = 1 % modulus;
+		}
+		for(int r = 1; r < k; r++) {
+			base[r][r - 1] = 1 % modulus;
+		}
+		
+		for(long e = n; e > 0; e >>= 1) {
+			if((e & 1) != 0) {
+				result = multiply(result, base, modulus);
+			}
+			if(e > 1) {
+				base = multiply(base, base, modulus);
+			}
+		}
+		
+		return result[0][0];
+	}
+	
+	// M^n over long, throwing ArithmeticException as soon as an entry overflows
+	private long climbStairsLongExact(long n) {
+		long[][] result = new long[k][k];
+		for(int i = 0; i < k; i++) {
+			result[i][i] = 1;
+		}
+		
+		long[][] base = new long[k][k];
+		for(int s : steps) {
+			base[0][s - 1] = 1;
+		}
+		for(int r = 1; r < k; r++) {
+			base[r][r - 1] = 1;
+		}
+		
+		for(long e = n; e > 0; e >>= 1) {
+			if((e & 1) != 0) {
+				result = multiplyExact(result, base);
+			}
+			if(e > 1) {
+				base = multiplyExact(base, base);
+			}
+		}
+		
+		return result[0][0];
+	}
+	
+	private static void checkN(long n) {
+		if(n < 0) {
+			throw new IllegalArgumentException("n must not be negative: " + n);
+		}
+	}
+	
+	private BigInteger[][] identity() {
+		BigInteger[][] m = new BigInteger[k][k];
+		for(int i = 0; i < k; i++) {
+			Arrays.fill(m[i], BigInteger.ZERO);
+			m[i][i] = BigInteger.ONE;
+		}
+		return m;
+	}
+	
+	private BigInteger[][] companion() {
+		BigInteger[][] m = new BigInteger[k][k];
+		for(int i = 0; i < k; i++) {
+			Arrays.fill(m[i], BigInteger.ZERO);
+		}
+		for(int s : steps) {
+			m[0][s - 1] = BigInteger.ONE;
+		}
+		for(int r = 1; r < k; r++) {
+			m[r][r - 1] = BigInteger.ONE;
+		}
+		return m;
+	}
+	
+	private BigInteger[][] multiply(BigInteger[][] a, BigInteger[][] b) {
+		BigInteger[][] c = new BigInteger[k][k];
+		for(int i = 0; i < k; i++) {
+			for(int j = 0; j < k; j++) {
+				BigInteger sum = BigInteger.ZERO;
+				for(int x = 0; x < k; x++) {
+					if(a[i][x].signum() != 0 && b[x][j].signum() != 0) {
+						sum = sum.add(a[i][x].multiply(b[x][j]));
+					}
+				}
+				c[i][j] = sum;
+			}
+		}
+		return c;
+	}
+	
+	private long[][] multiply(long[][] a, long[][] b, long modulus) {
+		long[][] c = new long[k][k];
+		for(int i = 0; i < k; i++) {
+			for(int j = 0; j < k; j++) {
+				long sum = 0;
+				for(int x = 0; x < k; x++) {
+					sum = addMod(sum, mulMod(a[i][x], b[x][j], modulus), modulus);
+				}
+				c[i][j] = sum;
+			}
+		}
+		return c;
+	}
+	
+	private long[][] multiplyExact(long[][] a, long[][] b) {
+		long[][] c = new long[k][k];
+		for(int i = 0; i < k; i++) {
+			for(int j = 0; j < k; j++) {
+				long sum = 0;
+				for(int x = 0; x < k; x++) {
+					if(a[i][x] != 0 && b[x][j] != 0) {
+						sum = Math.addExact(sum, Math.multiplyExact(a[i][x], b[x][j]));
+					}
+				}
+				c[i][j] = sum;
+			}
+		}
+		return c;
+	}
+	
+	// a, b in [0, modulus), without overflowing even when modulus is close to Long.MAX_VALUE
+	private static long addMod(long a, long b, long modulus) {
+		return a >= modulus - b ? a - (modulus - b) : a + b;
+	}
+	
+	private static long mulMod(long a, long b, long modulus) {
+		if(a == 0 || b == 0) {
+			return 0;
+		}
+		
+		// The product fits in a long, the common case for moduli below 2^31
+		if(a < (1L << 31) && b < (1L << 31)) {
+			return a * b % modulus;
+		}
+		
+		// Double and add
+		long result = 0;
+		for(a %= modulus; b > 0; b >>= 1) {
+			if((b & 1) != 0) {
+				result = addMod(result, a, modulus);
+			}
+			a = addMod(a, a, modulus);
+		}
+		return result;
+	}
+
+}
@@ -338,7 +338,7 @@ package strategicapproachtodp;
  */
 
 // 70. Climbing stairs - basic recursion  time O(2^n)
-public class ClimbingStairs70_recursion {
+public class ClimbingStairs70_recursion implements ClimbingStairsSolver {
 	
 	// A function that represents the answer to the problem for a given state
 	private int dp(int i) {
@@ -349,6 +349,7 @@ public class ClimbingStairs70_recursion {
 		return dp(i - 1) + dp(i - 2); // Recurrence relation
 	}
 	
+	@Override
 	public int climbStairs(int n) {
 		return dp(n);
 	}
@@ -0,0 +1,221 @@
+package strategicapproachtodp;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 
+ * = Approach : precomputed table =
+ * 
+ * - The answer to Climbing Stairs does not depend on any input,
+ *   yet ClimbingStairs70_bottomup rebuilds its table on every call.
+ * - Here the bottom-up table is built once per process and kept:
+ *   any n up to the largest n computed so far is a single array read, O(1).
+ * - A larger n extends the table (doubling, so extensions are amortized O(1) per entry),
+ *   up to MAX_TABLE_N: past it an answer is an O(log n) matrix power (ClimbingStairs70_matrix),
+ *   so one request for a huge n cannot make the table allocate gigabytes.
+ * 
+ * - The table is published lock-free: readers do one volatile read of the current array;
+ *   an extension copies it into a longer array and publishes it with a compare-and-set.
+ *   If two threads extend at the same time, the loser simply uses (or extends) the winner's array.
+ *   
+ * - Values are long: exact (they overflow a long after n = 91), or modulo a modulus of at most 2^62.
+ * - The table can be saved to and loaded from a snapshot file through a memory-mapped buffer, so a new JVM starts warm.
+ *
+ */
+public class ClimbingStairs70_table implements ClimbingStairsSolver {
+	
+	// Largest n whose exact answer fits in a long
+	public static final int MAX_EXACT_N = 91;
+	
+	// Largest n kept in a modulus table (32 MB of long)
+	public static final int MAX_TABLE_N = (1 << 22) - 1;
+	
+	// Modulus 0 means exact
+	private static final long EXACT = 0;
+	private static final long MAX_MODULUS = 1L << 62;
+	
+	private static final int MAGIC = 0x44504353; // "DPCS"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 4 + 4 + 8 + 4;
+	
+	private static final ConcurrentHashMap<Long, ClimbingStairs70_table> TABLES = new ConcurrentHashMap<>();
+	
+	private final long modulus;
+	private final AtomicReference<long[]> table;
+	
+	private ClimbingStairs70_table(long modulus) {
+		this.modulus = modulus;
+		
+		long[] base = {1, 1, 2}; // dp(0) = 1, dp(1) = 1, dp(2) = 2
+		if(modulus != EXACT) {
+			for(int i = 0; i < base.length; i++) {
+				base[i] %= modulus;
+			}
+		}
+		this.table = new AtomicReference<>(base);
+	}
+	
+	/**
+	 * The process-wide table of exact answers.
+	 */
+	public static ClimbingStairs70_table exact() {
+		return TABLES.computeIfAbsent(EXACT, ClimbingStairs70_table::new);
+	}
+	
+	/**
+	 * The process-wide table of answers modulo modulus.
+	 */
+	public static ClimbingStairs70_table modulo(long modulus) {
+		if(modulus <= 0 || modulus > MAX_MODULUS) {
+			throw new IllegalArgumentException("modulus must be in [1, 2^62]: " + modulus);
+		}
+		return TABLES.computeIfAbsent(modulus, ClimbingStairs70_table::new);
+	}
+	
+	@Override
+	public int climbStairs(int n) {
+		return Math.toIntExact(ways(n));
+	}
+	
+	public long ways(int n) {
+		if(n < 0) {
+			throw new IllegalArgumentException("n must not be negative: " + n);
+		}
+		checkExact(n);
+		
+		long[] current = table.get();
+		if(n < current.length) {
+			return current[n];
+		}
+		if(n > maxN()) {
+			return waysByMatrix(n);
+		}
+		
+		return extend(n)[n];
+	}
+	
+	/**
+	 * Same answer as ways(n) from an O(log n) matrix power, without reading or growing the table.
+	 */
+	public long waysByMatrix(int n) {
+		if(n < 0) {
+			throw new IllegalArgumentException("n must not be negative: " + n);
+		}
+		checkExact(n);
+		
+		ClimbingStairs70_matrix matrix = new ClimbingStairs70_matrix();
+		return modulus == EXACT ? matrix.climbStairsExact(n).longValueExact() : matrix.climbStairsMod(n, modulus);
+	}
+	
+	private void checkExact(int n) {
+		if(modulus == EXACT && n > MAX_EXACT_N) {
+			throw new ArithmeticException("climbStairs(" + n + ") overflows a long, use a modulus or ClimbingStairs70_matrix");
+		}
+	}
+	
+	/**
+	 * Largest n the table keeps (MAX_EXACT_N when exact, MAX_TABLE_N otherwise).
+	 * A modulus table answers any n past it with waysByMatrix.
+	 */
+	public int maxN() {
+		return modulus == EXACT ? MAX_EXACT_N : MAX_TABLE_N;
+	}
+	
+	/**
+	 * Largest n answered without extending.
+	 */
+	public int computedUpTo() {
+		return table.get().length - 1;
+	}
+	
+	private long[] extend(int n) {
+		while(true) {
+			long[] current = table.get();
+			if(n < current.length) {
+				return current;
+			}
+			
+			int length = (int) Math.min(Math.max(n + 1L, 2L * current.length), maxN() + 1L);
+			
+			long[] next = Arrays.copyOf(current, length);
+			for(int i = current.length; i < length; i++) {
+				long ways = next[i - 1] + next[i - 2]; // Recurrence relation
+				next[i] = modulus == EXACT || ways < modulus ? ways : ways - modulus;
+			}
+			
+			if(table.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Writes the table computed so far to a snapshot file (little-endian header then values).
+	 */
+	public void save(Path file) throws IOException {
+		long[] current = table.get();
+		long bytes = HEADER_BYTES + (long) current.length * Long.BYTES;
+		
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			
+			buffer.putInt(MAGIC).putInt(VERSION).putLong(modulus).putInt(current.length);
+			buffer.asLongBuffer().put(current);
+			buffer.force();
+		}
+	}
+	
+	/**
+	 * Loads a snapshot written by save for the same modulus.
+	 * Only ever grows the table: a snapshot shorter than what is already computed is ignored.
+	 */
+	public void load(Path file) throws IOException {
+		long[] loaded;
+		
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if(channel.size() < HEADER_BYTES) {
+				throw new IOException("not a climbing stairs snapshot (too short): " + file);
+			}
+			
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			
+			if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				throw new IOException("not a climbing stairs snapshot (bad header): " + file);
+			}
+			long fileModulus = buffer.getLong();
+			if(fileModulus != modulus) {
+				throw new IOException("snapshot modulus " + fileModulus + " does not match " + modulus + ": " + file);
+			}
+			
+			int count = buffer.getInt();
+			LongBuffer values = buffer.asLongBuffer();
+			if(count < 3 || values.remaining() < count) {
+				throw new IOException("truncated climbing stairs snapshot: " + file);
+			}
+			
+			// A snapshot from an older, uncapped table only fills up to the cap
+			loaded = new long[Math.min(count, maxN() + 1)];
+			values.get(loaded);
+		}
+		
+		while(true) {
+			long[] current = table.get();
+			if(loaded.length <= current.length || table.compareAndSet(current, loaded)) {
+				return;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,13 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Common entry point of every 70. Climbing Stairs variant, so callers do not hard-code one class (see Solvers, AdaptiveSolver).
+ *
+ */
+@FunctionalInterface
+public interface ClimbingStairsSolver {
+	
+	int climbStairs(int n);
+
+}
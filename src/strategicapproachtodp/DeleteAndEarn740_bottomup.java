@@ -1,36 +1,43 @@
 package strategicapproachtodp;
 
-import java.util.HashMap;
+import java.nio.IntBuffer;
+import java.util.Arrays;
 
-public class DeleteAndEarn740_bottomup {
+public class DeleteAndEarn740_bottomup implements DeleteAndEarnSolver {
 	
+	@Override
 	public int deleteAndEarn(int[] nums) {
 		
-		HashMap<Integer, Integer> points = new HashMap<>();
+		long start = SolveMetrics.start();
 		
-		int maxNumber = 0;
+		// Pre compute how many points we gain from taking each distinct value, sorted by value.
+		// Memory depends on the number of distinct values, not on the largest one (see DistinctPoints).
+		DistinctPoints points = DistinctPoints.of(nums);
+		int distinct = points.size();
 		
-		// Pre compute how many points we gain from taking an element
-		for(int num : nums) {
-			points.put(num, points.getOrDefault(num, 0) + num);
-			maxNumber = Math.max(maxNumber, num);
-		}
+		if(distinct == 0) {return 0;}
 		
 		// Declare our array along with base cases
-		int[] maxPoints = new int[maxNumber + 1];
-		maxPoints[1] = points.getOrDefault(1, 0);
+		int[] maxPoints = new int[distinct];
+		maxPoints[0] = points.points[0];
 		
 		
-		for(int num = 2; num < maxPoints.length; num++) {
+		for(int k = 1; k < distinct; k++) {
+			
+			// Apply recurrence relation, only a neighbouring value (values[k] - 1) gets deleted
+			int gain = points.points[k];
 			
-			// Apply recurrence relation
-			int gain = points.getOrDefault(num, 0);
-			maxPoints[num] = Math.max(maxPoints[num - 1], maxPoints[num - 2] + gain);
+			if(points.adjacent(k)) {
+				maxPoints[k] = Math.max(maxPoints[k - 1], (k >= 2 ? maxPoints[k - 2] : 0) + gain);
+			} else {
+				maxPoints[k] = maxPoints[k - 1] + gain;
+			}
 			
 			
 		}
 		
-		return maxPoints[maxNumber];
+		SolveMetrics.recordTable("DeleteAndEarn740_bottomup", distinct, (long) maxPoints.length * Integer.BYTES, start);
+		return maxPoints[distinct - 1];
 		
 		
 		
@@ -38,4 +45,114 @@ public class DeleteAndEarn740_bottomup {
 	}
 	
 
+	/**
+	 * deleteAndEarn for every instance of a batch (see InstanceBatch), 0 for an empty one.
+	 * 
+	 * - Sorting dominates here, so instances are not interleaved:
+	 *   each one is copied into a scratch array shared by the whole kernel call, sorted,
+	 *   and the recurrence runs straight over the runs of equal values (no DistinctPoints per instance).
+	 */
+	public void deleteAndEarnAll(int[] data, int[] offsets, int[] results) {
+		InstanceBatch.run(data, offsets, results, DeleteAndEarn740_bottomup::deleteAndEarnRange);
+	}
+	
+	public void deleteAndEarnAll(IntBuffer data, int[] offsets, int[] results) {
+		InstanceBatch.run(data, offsets, results, DeleteAndEarn740_bottomup::deleteAndEarnRange);
+	}
+	
+	private static void deleteAndEarnRange(int[] data, int base, int[] offsets, int from, int to, int[] results) {
+		int longest = 0;
+		for(int i = from; i < to; i++) {
+			longest = Math.max(longest, offsets[i + 1] - offsets[i]);
+		}
+		int[] scratch = new int[longest];
+		
+		for(int i = from; i < to; i++) {
+			int length = offsets[i + 1] - offsets[i];
+			System.arraycopy(data, offsets[i] - base, scratch, 0, length);
+			Arrays.sort(scratch, 0, length);
+			
+			int first = 0;  // maxPoints[k - 2]
+			int second = 0; // maxPoints[k - 1]
+			
+			for(int j = 0; j < length; ) {
+				int value = scratch[j];
+				int gain = 0;
+				
+				// Only a neighbouring value (value - 1) gets deleted
+				boolean adjacent = j > 0 && value - scratch[j - 1] == 1;
+				
+				for(; j < length && scratch[j] == value; j++) {
+					gain += value;
+				}
+				
+				// Apply recurrence relation
+				int current;
+				if(adjacent) {
+					current = Math.max(second, first + gain);
+				} else {
+					current = second + gain;
+				}
+				
+				first = second;
+				second = current;
+			}
+			
+			results[i] = second;
+		}
+	}
+	
+	/**
+	 * The distinct values to take (every copy of each) for the points returned by deleteAndEarn, in increasing order.
+	 * 
+	 * - Keeps one decision bit per distinct value, did maxPoints[k] take values[k]?, instead of the maxPoints table.
+	 * - Walking back: a taken value deletes its neighbour values[k] - 1, so continue at k - 2 if that neighbour exists, else k - 1.
+	 */
+	public int[] takenValues(int[] nums) {
+		
+		DistinctPoints points = DistinctPoints.of(nums);
+		int distinct = points.size();
+		
+		long[] taken = new long[(distinct + 63) >>> 6];
+		
+		long first = 0;  // maxPoints[k - 2]
+		long second = 0; // maxPoints[k - 1]
+		
+		for(int k = 0; k < distinct; k++) {
+			long gain = points.points[k];
+			long current;
+			
+			if(points.adjacent(k)) {
+				current = Math.max(second, first + gain);
+			} else {
+				current = second + gain;
+			}
+			
+			if(current != second) {
+				taken[k >>> 6] |= 1L << k;
+			}
+			first = second;
+			second = current;
+		}
+		
+		int count = 0;
+		int[] values = new int[distinct];
+		
+		for(int k = distinct - 1; k >= 0; ) {
+			if((taken[k >>> 6] & (1L << k)) != 0) {
+				values[count++] = points.values[k];
+				k -= points.adjacent(k) ? 2 : 1;
+			} else {
+				k--;
+			}
+		}
+		
+		// Collected from the largest value down
+		int[] result = new int[count];
+		for(int i = 0; i < count; i++) {
+			result[i] = values[count - 1 - i];
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,316 @@
+package strategicapproachtodp;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * 
+ * = Delete and Earn over a changing multiset =
+ * 
+ * - DeleteAndEarn740_bottomup rebuilds the points and the maxPoints loop on every call.
+ * - This object keeps the multiset itself, with add(value), remove(value) and best() in O(log d), d distinct values.
+ *   
+ * - The maxPoints loop over the sorted distinct values is a product of (max, +) matrices (see MaxPlusMatrix),
+ *   one per distinct value v with gain g = v * count(v):
+ *   - v - 1 is present:  maxPoints = max(previous, previousPrevious + g), the usual step(g),
+ *   - otherwise:         maxPoints = previous + g, the matrix | g  -inf |
+ *                                                            | 0  -inf |.
+ * - The distinct values sit in a treap (a randomized balanced binary search tree) ordered by value,
+ *   and every node keeps the product of the matrices of its subtree, in order.
+ *   The root's product applied to (0, 0) is the answer.
+ *   
+ * - An update changes the matrix of v (its count), and maybe the one of v + 1 (whether v is present),
+ *   so only the nodes on the path to v and to v + 1 are recomputed.
+ * - Nodes live in flat arrays, removed slots are reused.
+ *
+ */
+public class DeleteAndEarn740_dynamic {
+	
+	private static final int NIL = 0;
+	
+	private int[] key = new int[16];
+	private int[] priority = new int[16];
+	private int[] left = new int[16];
+	private int[] right = new int[16];
+	private long[] count = new long[16];
+	private boolean[] adjacent = new boolean[16];
+	
+	// Product of the subtree's matrices, one flat array per entry (slot NIL holds the identity)
+	private long[] p00 = new long[16];
+	private long[] p01 = new long[16];
+	private long[] p10 = new long[16];
+	private long[] p11 = new long[16];
+	
+	private int root = NIL;
+	private int used = 1; // slot 0 is NIL
+	private int free = NIL; // removed slots, chained through right[]
+	private int distinct;
+	private long size;
+	
+	private final SplittableRandom random = new SplittableRandom();
+	
+	public DeleteAndEarn740_dynamic() {
+		p00[NIL] = 0;
+		p01[NIL] = MaxPlusMatrix.NEG_INF;
+		p10[NIL] = MaxPlusMatrix.NEG_INF;
+		p11[NIL] = 0;
+	}
+	
+	public DeleteAndEarn740_dynamic(int[] nums) {
+		this();
+		for(int num : nums) {
+			add(num);
+		}
+	}
+	
+	public void add(int value) {
+		int node = find(value);
+		
+		if(node != NIL) {
+			count[node]++;
+			touch(root, value);
+		} else {
+			node = allocate(value);
+			adjacent[node] = value != Integer.MIN_VALUE && find(value - 1) != NIL;
+			root = insert(root, node);
+			distinct++;
+			
+			// v + 1 now has its neighbour
+			setAdjacent(value, true);
+		}
+		size++;
+	}
+	
+	/**
+	 * Removes one copy of value.
+	 * 
+	 * @throws NoSuchElementException if value is not in the multiset
+	 */
+	public void remove(int value) {
+		int node = find(value);
+		if(node == NIL) {
+			throw new NoSuchElementException("value " + value + " is not in the multiset");
+		}
+		
+		if(--count[node] > 0) {
+			touch(root, value);
+		} else {
+			root = erase(root, value);
+			release(node);
+			distinct--;
+			
+			setAdjacent(value, false);
+		}
+		size--;
+	}
+	
+	public long count(int value) {
+		int node = find(value);
+		return node == NIL ? 0 : count[node];
+	}
+	
+	/**
+	 * Maximum number of points for the current multiset (0 if empty).
+	 */
+	public long best() {
+		return Math.max(p00[root], p01[root]);
+	}
+	
+	public long size() {
+		return size;
+	}
+	
+	public int distinct() {
+		return distinct;
+	}
+	
+	// The adjacency of value + 1, if present, follows whether value is present
+	private void setAdjacent(int value, boolean present) {
+		if(value == Integer.MAX_VALUE) {return;}
+		
+		int next = find(value + 1);
+		if(next != NIL) {
+			adjacent[next] = present;
+			touch(root, value + 1);
+		}
+	}
+	
+	private int find(int value) {
+		int t = root;
+		while(t != NIL && key[t] != value) {
+			t = value < key[t] ? left[t] : right[t];
+		}
+		return t;
+	}
+	
+	// Recomputes the products on the path from t down to value
+	private void touch(int t, int value) {
+		if(t == NIL) {return;}
+		
+		if(value < key[t]) {
+			touch(left[t], value);
+		} else if(value > key[t]) {
+			touch(right[t], value);
+		}
+		pull(t);
+	}
+	
+	// Removes the node holding value from t, its children take its place
+	private int erase(int t, int value) {
+		if(key[t] == value) {
+			return merge(left[t], right[t]);
+		}
+		
+		if(value < key[t]) {
+			left[t] = erase(left[t], value);
+		} else {
+			right[t] = erase(right[t], value);
+		}
+		pull(t);
+		return t;
+	}
+	
+	// Inserts node below t, at the depth its priority asks for
+	private int insert(int t, int node) {
+		if(t == NIL) {
+			pull(node);
+			return node;
+		}
+		
+		if(priority[node] > priority[t]) {
+			long parts = split(t, key[node]);
+			left[node] = first(parts);
+			right[node] = second(parts);
+			pull(node);
+			return node;
+		}
+		
+		if(key[node] < key[t]) {
+			left[t] = insert(left[t], node);
+		} else {
+			right[t] = insert(right[t], node);
+		}
+		pull(t);
+		return t;
+	}
+	
+	// Splits t into keys < value (first) and keys >= value (second), packed in a long
+	private long split(int t, int value) {
+		if(t == NIL) {
+			return pack(NIL, NIL);
+		}
+		
+		if(key[t] < value) {
+			long parts = split(right[t], value);
+			right[t] = first(parts);
+			pull(t);
+			return pack(t, second(parts));
+		}
+		
+		long parts = split(left[t], value);
+		left[t] = second(parts);
+		pull(t);
+		return pack(first(parts), t);
+	}
+	
+	// Every key of a is smaller than every key of b
+	private int merge(int a, int b) {
+		if(a == NIL) {return b;}
+		if(b == NIL) {return a;}
+		
+		if(priority[a] > priority[b]) {
+			right[a] = merge(right[a], b);
+			pull(a);
+			return a;
+		}
+		
+		left[b] = merge(a, left[b]);
+		pull(b);
+		return b;
+	}
+	
+	// Product of the subtree: the left subtree's values come first, then this node, then the right subtree.
+	// Same products as MaxPlusMatrix.after, on the flat arrays.
+	private void pull(int t) {
+		long gain = (long) key[t] * count[t];
+		int l = left[t];
+		int r = right[t];
+		
+		// This node's matrix, see the class comment
+		long o00 = adjacent[t] ? 0 : gain;
+		long o01 = adjacent[t] ? gain : MaxPlusMatrix.NEG_INF;
+		long o10 = 0;
+		long o11 = MaxPlusMatrix.NEG_INF;
+		
+		// own x left
+		long a00 = Math.max(add(o00, p00[l]), add(o01, p10[l]));
+		long a01 = Math.max(add(o00, p01[l]), add(o01, p11[l]));
+		long a10 = Math.max(add(o10, p00[l]), add(o11, p10[l]));
+		long a11 = Math.max(add(o10, p01[l]), add(o11, p11[l]));
+		
+		// right x (own x left)
+		p00[t] = Math.max(add(p00[r], a00), add(p01[r], a10));
+		p01[t] = Math.max(add(p00[r], a01), add(p01[r], a11));
+		p10[t] = Math.max(add(p10[r], a00), add(p11[r], a10));
+		p11[t] = Math.max(add(p10[r], a01), add(p11[r], a11));
+	}
+	
+	// Semiring multiplication, -inf absorbs
+	private static long add(long a, long b) {
+		return a <= MaxPlusMatrix.NEG_INF || b <= MaxPlusMatrix.NEG_INF ? MaxPlusMatrix.NEG_INF : a + b;
+	}
+	
+	private int allocate(int value) {
+		int node;
+		if(free != NIL) {
+			node = free;
+			free = right[node];
+		} else {
+			if(used == key.length) {
+				grow();
+			}
+			node = used++;
+		}
+		
+		key[node] = value;
+		priority[node] = random.nextInt();
+		left[node] = NIL;
+		right[node] = NIL;
+		count[node] = 1;
+		return node;
+	}
+	
+	private void release(int node) {
+		left[node] = NIL;
+		right[node] = free;
+		free = node;
+	}
+	
+	private void grow() {
+		int capacity = key.length << 1;
+		key = Arrays.copyOf(key, capacity);
+		priority = Arrays.copyOf(priority, capacity);
+		left = Arrays.copyOf(left, capacity);
+		right = Arrays.copyOf(right, capacity);
+		count = Arrays.copyOf(count, capacity);
+		adjacent = Arrays.copyOf(adjacent, capacity);
+		p00 = Arrays.copyOf(p00, capacity);
+		p01 = Arrays.copyOf(p01, capacity);
+		p10 = Arrays.copyOf(p10, capacity);
+		p11 = Arrays.copyOf(p11, capacity);
+	}
+	
+	private static long pack(int a, int b) {
+		return ((long) a << 32) | (b & 0xFFFFFFFFL);
+	}
+	
+	private static int first(long parts) {
+		return (int) (parts >>> 32);
+	}
+	
+	private static int second(long parts) {
+		return (int) parts;
+	}
+
+}
@@ -0,0 +1,35 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Parallel Delete and Earn =
+ * 
+ * - Same maxPoints loop as DeleteAndEarn740_bottomup: maxPoints[num] = max(maxPoints[num - 1], maxPoints[num - 2] + gain).
+ * - The per-value gains come from the sorted distinct values (see DistinctPoints.gains),
+ *   then the loop is reduced in parallel as (max, +) matrices (see MaxPlusMatrix), starting from maxPoints[-1] = maxPoints[-2] = 0.
+ *
+ */
+public class DeleteAndEarn740_parallel implements DeleteAndEarnSolver {
+	
+	private final MaxPlusReduction reduction;
+	
+	public DeleteAndEarn740_parallel() {
+		this(new MaxPlusReduction());
+	}
+	
+	public DeleteAndEarn740_parallel(MaxPlusReduction reduction) {
+		this.reduction = reduction;
+	}
+	
+	@Override
+	public int deleteAndEarn(int[] nums) {
+		
+		// Pre compute how many points we gain from taking an element
+		int[] gains = DistinctPoints.of(nums).gains();
+		
+		MaxPlusMatrix steps = reduction.reduce(gains, 0, gains.length);
+		
+		return Math.toIntExact(steps.apply(0, 0));
+	}
+
+}
@@ -1,5 +1,43 @@
 package strategicapproachtodp;
 
-public class DeleteAndEarn740_topdown {
+import java.util.function.IntUnaryOperator;
+
+public class DeleteAndEarn740_topdown implements DeleteAndEarnSolver {
+
+	// Sorted distinct values with their points, the state k is an index into them (see DistinctPoints)
+	private DistinctPoints points;
+	private IntMemo memo;
+
+	private final IntUnaryOperator recurrence = k -> {
+		int gain = points.points[k];
+
+		// Only a neighbouring value (values[k] - 1) gets deleted
+		if(points.adjacent(k)) {
+			return Math.max(dp(k - 1), dp(k - 2) + gain);
+		}
+		return dp(k - 1) + gain;
+	};
+
+	private int dp(int k) {
+
+		// Base cases
+		if(k < 0) {return 0;}
+		if(k == 0) {return points.points[0];}
+
+		// Apply recurrence relation
+		return memo.getOrCompute(k, recurrence);
+
+	}
+
+	@Override
+	public int deleteAndEarn(int[] nums) {
+
+		// Pre compute how many points we gain from taking each distinct value
+		points = DistinctPoints.of(nums);
+		memo = new IntMemo(points.size());
+
+		return dp(points.size() - 1);
+
+	}
 
 }
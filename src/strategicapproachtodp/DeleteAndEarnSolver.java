@@ -0,0 +1,13 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Common entry point of every 740. Delete and Earn variant, so callers do not hard-code one class (see Solvers, AdaptiveSolver).
+ *
+ */
+@FunctionalInterface
+public interface DeleteAndEarnSolver {
+	
+	int deleteAndEarn(int[] nums);
+
+}
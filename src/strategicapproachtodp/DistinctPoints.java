@@ -0,0 +1,133 @@
+package strategicapproachtodp;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * = Points per distinct value, for Delete and Earn =
+ * 
+ * - DeleteAndEarn740 only cares about the distinct values and how many points each one is worth (value * count).
+ * - Sizing an array by the largest value wastes memory when values are sparse (one 10^9 means a gigabyte array),
+ *   so values are kept sorted and compressed: values[k] is the k-th smallest distinct value, points[k] its total.
+ *   
+ * - Two ways to build it, picked by the range of the input:
+ *   - a small range (at most a few times the input length) is counted in a primitive array over [min, max],
+ *   - a sparse range is sorted and grouped by runs of equal values.
+ *   - Either way, memory is O(n), never O(max value).
+ *   
+ * - The recurrence then only looks at the gap between neighbouring distinct values:
+ *   - values[k] == values[k - 1] + 1: taking values[k] deletes values[k - 1], dp(k) = max(dp(k - 1), dp(k - 2) + points[k]).
+ *   - otherwise nothing is in the way, dp(k) = dp(k - 1) + points[k].
+ *
+ */
+public final class DistinctPoints {
+	
+	// Count in an array when the value range is at most this many times the input length
+	static final int DENSE_FACTOR = 4;
+	
+	public final int[] values;
+	public final int[] points;
+	
+	private DistinctPoints(int[] values, int[] points) {
+		this.values = values;
+		this.points = points;
+	}
+	
+	public static DistinctPoints of(int[] nums) {
+		if(nums.length == 0) {
+			return new DistinctPoints(new int[0], new int[0]);
+		}
+		
+		int[] range = DpKernels.get().minMax(nums);
+		int min = range[0];
+		int max = range[1];
+		
+		long width = (long) max - min + 1;
+		
+		return width <= (long) DENSE_FACTOR * nums.length ? counted(nums, min, (int) width) : sorted(nums);
+	}
+	
+	private static DistinctPoints counted(int[] nums, int min, int range) {
+		int[] totals = new int[range];
+		int distinct = 0;
+		
+		// Pre compute how many points we gain from taking an element
+		for(int num : nums) {
+			if(totals[num - min] == 0 && num != 0) {
+				distinct++;
+			}
+			totals[num - min] += num;
+		}
+		
+		int[] values = new int[distinct];
+		int[] points = new int[distinct];
+		
+		for(int offset = 0, k = 0; offset < range; offset++) {
+			if(totals[offset] != 0) {
+				values[k] = min + offset;
+				points[k] = totals[offset];
+				k++;
+			}
+		}
+		
+		return new DistinctPoints(values, points);
+	}
+	
+	private static DistinctPoints sorted(int[] nums) {
+		int[] sorted = nums.clone();
+		Arrays.sort(sorted);
+		
+		int distinct = 0;
+		for(int i = 0; i < sorted.length; i++) {
+			if(i == 0 || sorted[i] != sorted[i - 1]) {
+				distinct++;
+			}
+		}
+		
+		int[] values = new int[distinct];
+		int[] points = new int[distinct];
+		
+		// Group runs of equal values
+		for(int i = 0, k = -1; i < sorted.length; i++) {
+			if(i == 0 || sorted[i] != sorted[i - 1]) {
+				values[++k] = sorted[i];
+			}
+			points[k] += sorted[i];
+		}
+		
+		return new DistinctPoints(values, points);
+	}
+	
+	public int size() {
+		return values.length;
+	}
+	
+	public boolean adjacent(int k) {
+		return k > 0 && values[k] - values[k - 1] == 1;
+	}
+	
+	/**
+	 * Gains for the plain recurrence max(dp[i - 1], dp[i - 2] + gain[i]):
+	 * a zero gain is inserted wherever two neighbouring distinct values are not adjacent,
+	 * which separates them exactly like the missing values would. Length at most 2 * size().
+	 */
+	public int[] gains() {
+		int length = values.length;
+		for(int k = 1; k < values.length; k++) {
+			if(!adjacent(k)) {
+				length++;
+			}
+		}
+		
+		int[] gains = new int[length];
+		for(int k = 0, i = 0; k < values.length; k++) {
+			if(k > 0 && !adjacent(k)) {
+				i++; // gains[i] stays 0
+			}
+			gains[i++] = points[k];
+		}
+		
+		return gains;
+	}
+
+}
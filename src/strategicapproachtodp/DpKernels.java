@@ -0,0 +1,61 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Inner-loop kernels =
+ * 
+ * - The hot loops that can use SIMD, behind one interface:
+ *   - minMax, the value range scan before counting Delete and Earn points (see DistinctPoints).
+ *   - squareRow, one row of Maximal Square (see MaximalSquare221_vector).
+ *   - kadane, the summary of one chunk for the parallel Maximum Subarray (see KadaneSummary).
+ *   
+ * - get() returns VectorKernels (jdk.incubator.vector) when that module is in the boot layer
+ *   (java --add-modules jdk.incubator.vector), and ScalarKernels otherwise, or when -Ddp.kernels=scalar is set.
+ *   Both give exactly the same results.
+ *
+ */
+public interface DpKernels {
+	
+	/**
+	 * {min, max} of nums, which must not be empty (IllegalArgumentException).
+	 */
+	int[] minMax(int[] nums);
+	
+	/**
+	 * One row of Maximal Square: curr[j] = cells[j - 1] == '1' ? min(curr[j - 1], prev[j], prev[j - 1]) + 1 : 0 for j in [1, cols].
+	 * curr[0] and prev[0] are the zero padding column.
+	 * 
+	 * @return the largest value written to curr
+	 */
+	int squareRow(int[] prev, int[] curr, char[] cells, int cols);
+	
+	/**
+	 * Same as KadaneSummary.of(nums, from, to).
+	 */
+	KadaneSummary kadane(int[] nums, int from, int to);
+	
+	static DpKernels get() {
+		return Holder.KERNELS;
+	}
+	
+	final class Holder {
+		
+		static final DpKernels KERNELS = load();
+		
+		private Holder() {}
+		
+		private static DpKernels load() {
+			if("scalar".equals(System.getProperty("dp.kernels"))
+					|| ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+				return new ScalarKernels();
+			}
+			
+			try {
+				return (DpKernels) Class.forName("strategicapproachtodp.VectorKernels").getDeclaredConstructor().newInstance();
+			} catch(ReflectiveOperationException | LinkageError e) {
+				return new ScalarKernels();
+			}
+		}
+	}
+
+}
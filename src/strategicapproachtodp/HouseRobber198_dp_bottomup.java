@@ -1,25 +1,133 @@
 package strategicapproachtodp;
 
-public class HouseRobber198_dp_bottomup {
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+public class HouseRobber198_dp_bottomup implements HouseRobberSolver {
 	
+	@Override
 	public int rob(int[] nums) {
 		
 		
 		if(nums.length == 1) {return nums[0];}
 		
-		int[] dp = new int[nums.length];
+		long start = SolveMetrics.start();
+		
+		// dp[i] only reads dp[i - 1] and dp[i - 2], so 3 slots are enough
+		RollingTable dp = new RollingTable(3);
 		
-		dp[0] = nums[0];
-		dp[1] = Math.max(nums[0], nums[1]);
+		dp.set(0, nums[0]);
+		dp.set(1, Math.max(nums[0], nums[1]));
 		
 		for(int i = 2; i < nums.length; i++) {
-			dp[i] = Math.max(dp[i - 1], dp[i - 2] + nums[i]);
+			dp.set(i, Math.max(dp.get(i - 1), dp.get(i - 2) + nums[i]));
+		}
+		
+		SolveMetrics.recordTable("HouseRobber198_dp_bottomup", nums.length, dp.bytes(), start);
+		return dp.get(nums.length - 1);
+		
+		
+		
+	}
+
+	/**
+	 * Which houses to rob for the amount returned by rob (houses are assumed non-negative, as in the problem).
+	 * 
+	 * - Instead of keeping the dp table, keep one decision bit per house: did dp[i] rob house i?
+	 * - Walking back from the last house: robbed i -> continue at i - 2, skipped i -> continue at i - 1.
+	 * - Extra memory n bits, instead of n ints.
+	 */
+	public BitSet robbedHouses(int[] nums) {
+		
+		long[] robbed = new long[(nums.length + 63) >>> 6];
+		
+		long first = 0;  // dp[i - 2]
+		long second = 0; // dp[i - 1]
+		
+		for(int i = 0; i < nums.length; i++) {
+			if(first + nums[i] > second) {
+				robbed[i >>> 6] |= 1L << i;
+			}
+			long current = Math.max(second, first + nums[i]);
+			first = second;
+			second = current;
+		}
+		
+		BitSet houses = new BitSet(nums.length);
+		for(int i = nums.length - 1; i >= 0; ) {
+			if((robbed[i >>> 6] & (1L << i)) != 0) {
+				houses.set(i);
+				i -= 2;
+			} else {
+				i--;
+			}
 		}
 		
-		return dp[nums.length - 1];
+		return houses;
+	}
+	
+	/**
+	 * Same houses as robbedHouses, passed to robbed from the last one to the first, in O(sqrt(n)) extra memory.
+	 * 
+	 * - Checkpoint and recompute: the first pass only saves the state (dp[i - 2], dp[i - 1]) at the start of every block of ~sqrt(n) houses.
+	 * - Walking back, the decision bits of one block at a time are recomputed from its checkpoint.
+	 * - Twice the work of robbedHouses, for sqrt(n) memory instead of n bits.
+	 */
+	public void robbedHouses(int[] nums, IntConsumer robbed) {
+		
+		int n = nums.length;
+		if(n == 0) {return;}
 		
+		int block = Math.max(64, (int) Math.ceil(Math.sqrt(n)));
+		int blocks = (n + block - 1) / block;
 		
+		// checkpoints[2b], checkpoints[2b + 1] = dp[start - 2], dp[start - 1] for block b
+		long[] checkpoints = new long[2 * blocks];
 		
+		long first = 0;
+		long second = 0;
+		
+		for(int i = 0; i < n; i++) {
+			if(i % block == 0) {
+				checkpoints[2 * (i / block)] = first;
+				checkpoints[2 * (i / block) + 1] = second;
+			}
+			long current = Math.max(second, first + nums[i]);
+			first = second;
+			second = current;
+		}
+		
+		long[] decisions = new long[(block + 63) >>> 6];
+		int i = n - 1;
+		
+		for(int b = blocks - 1; b >= 0 && i >= 0; b--) {
+			int start = b * block;
+			int end = Math.min(n, start + block);
+			
+			// Recompute this block's decision bits from its checkpoint
+			Arrays.fill(decisions, 0L);
+			first = checkpoints[2 * b];
+			second = checkpoints[2 * b + 1];
+			
+			for(int h = start; h < end; h++) {
+				if(first + nums[h] > second) {
+					decisions[(h - start) >>> 6] |= 1L << (h - start);
+				}
+				long current = Math.max(second, first + nums[h]);
+				first = second;
+				second = current;
+			}
+			
+			while(i >= start) {
+				if((decisions[(i - start) >>> 6] & (1L << (i - start))) != 0) {
+					robbed.accept(i);
+					i -= 2;
+				} else {
+					i--;
+				}
+			}
+		}
 	}
 
 }
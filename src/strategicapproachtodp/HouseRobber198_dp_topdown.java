@@ -1,29 +1,54 @@
 package strategicapproachtodp;
 
-import java.util.HashMap;
+import java.util.function.IntUnaryOperator;
 
-public class HouseRobber198_dp_topdown {
+public class HouseRobber198_dp_topdown implements HouseRobberSolver {
 	
-	private HashMap<Integer, Integer> memo = new HashMap<>();
+	private IntMemo memo = new IntMemo();
 	private int[] nums;
 	
+	// When set, the memo is shared across threads and requests, scoped by the input's content (see SharedMemo)
+	private final SharedMemo shared;
+	
+	private final IntUnaryOperator recurrence = i -> Math.max(dp(i - 1), dp(i - 2) + nums[i]);
+	
+	public HouseRobber198_dp_topdown() {
+		this(null);
+	}
+	
+	public HouseRobber198_dp_topdown(SharedMemo shared) {
+		this.shared = shared;
+	}
+	
 	private int dp(int i) {
 		
 		if(i == 0) {return nums[0];}
 		if(i == 1) {return Math.max(nums[0], nums[1]);}
 		
-		if(!memo.containsKey(i)) {
-			memo.put(i, Math.max(dp(i - 1), dp(i - 2) + nums[i]));
-		}
-		
-		return memo.get(i);
+		return memo.getOrCompute(i, recurrence);
 		
 	}
 	
+	@Override
 	public int rob(int[] nums) {
 		
+		if(shared != null) {
+			return new SharedSolve(nums, shared).dp(nums.length - 1);
+		}
+		
+		// The memo belongs to the previous nums, start over
 		this.nums = nums;
-		return dp(nums.length - 1);
+		memo.clear();
+		
+		long start = SolveMetrics.start();
+		memo.countLookups(start != 0);
+		long hits = memo.hits();
+		long misses = memo.misses();
+		
+		int amount = dp(nums.length - 1);
+		
+		SolveMetrics.recordMemo("HouseRobber198_dp_topdown", memo, hits, misses, start);
+		return amount;
 		
 		
 		
@@ -31,5 +56,44 @@ public class HouseRobber198_dp_topdown {
 		
 	}
 	
+	// Same recurrence, evaluated on an explicit stack so long arrays do not overflow the call stack
+	public int robStackSafe(int[] nums) {
+		
+		IterativeTopDown solver = new IterativeTopDown((i, memo) -> {
+			if(i == 0) {return nums[0];}
+			if(i == 1) {return Math.max(nums[0], nums[1]);}
+			
+			return Math.max(memo.dp(i - 1), memo.dp(i - 2) + nums[i]);
+		}, new IntMemo(nums.length));
+		
+		return solver.dp(nums.length - 1);
+		
+	}
+	
+	// One solve against a shared memo. Keeps nums on its own object, so concurrent solves do not interfere.
+	private static final class SharedSolve implements IntUnaryOperator {
+		
+		private final int[] nums;
+		private final long scope;
+		private final SharedMemo memo;
+		
+		SharedSolve(int[] nums, SharedMemo memo) {
+			this.nums = nums;
+			this.scope = memo.scopeOf(nums);
+			this.memo = memo;
+		}
+		
+		int dp(int i) {
+			if(i == 0) {return nums[0];}
+			if(i == 1) {return Math.max(nums[0], nums[1]);}
+			
+			return memo.getOrCompute(scope, i, this);
+		}
+		
+		@Override
+		public int applyAsInt(int i) {
+			return Math.max(dp(i - 1), dp(i - 2) + nums[i]);
+		}
+	}
 
 }
@@ -1,7 +1,10 @@
 package strategicapproachtodp;
 
-public class HouseRobber198_dp_topdownoptimized {
+import java.nio.IntBuffer;
+
+public class HouseRobber198_dp_topdownoptimized implements HouseRobberSolver {
 	
+	@Override
 	public int rob(int[] nums) {
 		
 		if(nums.length == 1) { return nums[0];}
@@ -20,5 +23,39 @@ public class HouseRobber198_dp_topdownoptimized {
 		
 	}
 	
+	/**
+	 * rob for every instance of a batch (see InstanceBatch): results[i] = rob(data[offsets[i] .. offsets[i + 1])), 0 for an empty one.
+	 */
+	public void robAll(int[] data, int[] offsets, int[] results) {
+		InstanceBatch.run(data, offsets, results, HouseRobber198_dp_topdownoptimized::robRange);
+	}
+	
+	public void robAll(IntBuffer data, int[] offsets, int[] results) {
+		InstanceBatch.run(data, offsets, results, HouseRobber198_dp_topdownoptimized::robRange);
+	}
+	
+	private static void robRange(int[] data, int base, int[] offsets, int from, int to, int[] results) {
+		for(int i = from; i < to; i++) {
+			results[i] = robRange(data, offsets[i] - base, offsets[i + 1] - offsets[i]);
+		}
+	}
+	
+	// Same loop as rob, over data[start .. start + length)
+	private static int robRange(int[] data, int start, int length) {
+		if(length == 0) {return 0;}
+		
+		int first = 0;
+		int second = data[start];
+		
+		for(int j = start + 1; j < start + length; j++) {
+			int current = Math.max(second, first + data[j]);
+			
+			first = second;
+			second = current;
+		}
+		
+		return second;
+	}
+	
 
 }
@@ -0,0 +1,34 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Parallel House Robber =
+ * 
+ * - Same recurrence as HouseRobber198_dp_bottomup, reduced in parallel as (max, +) matrices (see MaxPlusMatrix).
+ * - The base cases dp[0] = nums[0] and dp[1] = max(nums[0], nums[1]) are the state (dp[0], dp[-1]) = (nums[0], 0)
+ *   followed by the steps for nums[1..n - 1].
+ *
+ */
+public class HouseRobber198_parallel implements HouseRobberSolver {
+	
+	private final MaxPlusReduction reduction;
+	
+	public HouseRobber198_parallel() {
+		this(new MaxPlusReduction());
+	}
+	
+	public HouseRobber198_parallel(MaxPlusReduction reduction) {
+		this.reduction = reduction;
+	}
+	
+	@Override
+	public int rob(int[] nums) {
+		
+		if(nums.length == 1) {return nums[0];}
+		
+		MaxPlusMatrix steps = reduction.reduce(nums, 1, nums.length);
+		
+		return Math.toIntExact(steps.apply(nums[0], 0));
+	}
+
+}
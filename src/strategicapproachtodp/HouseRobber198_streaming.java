@@ -0,0 +1,130 @@
+package strategicapproachtodp;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 
+ * = Streaming House Robber =
+ * 
+ * - HouseRobber198_dp_topdownoptimized only keeps two values (first, second) while it scans nums,
+ *   so there is no need to have nums in memory at all.
+ * - Houses are pushed one at a time (accept), as chunks or buffers, from an IntStream,
+ *   a channel or a memory-mapped file of little-endian int32 values,
+ *   and best() is the answer for the houses seen so far.
+ *   
+ * - Amounts are summed in a long, since a long stream can easily go past Integer.MAX_VALUE.
+ *
+ */
+public class HouseRobber198_streaming implements IntConsumer {
+	
+	private long first;  // best amount up to house i - 2
+	private long second; // best amount up to house i - 1
+	private long count;
+	
+	@Override
+	public void accept(int num) {
+		if(count == 0) {
+			second = num; // base case
+		} else {
+			long current = Math.max(second, first + num);
+			first = second;
+			second = current;
+		}
+		count++;
+	}
+	
+	public void accept(int[] nums, int from, int to) {
+		int i = from;
+		
+		if(count == 0 && i < to) {
+			accept(nums[i++]);
+		}
+		
+		// Same loop as HouseRobber198_dp_topdownoptimized, on locals
+		long first = this.first;
+		long second = this.second;
+		int start = i;
+		
+		for(; i < to; i++) {
+			long current = Math.max(second, first + nums[i]);
+			first = second;
+			second = current;
+		}
+		
+		this.first = first;
+		this.second = second;
+		count += to - start;
+	}
+	
+	/**
+	 * The values between the position and the limit of buffer, read in place (absolute gets, the position is left unchanged).
+	 */
+	public void accept(IntBuffer buffer) {
+		int i = buffer.position();
+		int to = buffer.limit();
+		
+		if(count == 0 && i < to) {
+			accept(buffer.get(i++));
+		}
+		
+		long first = this.first;
+		long second = this.second;
+		int start = i;
+		
+		for(; i < to; i++) {
+			long current = Math.max(second, first + buffer.get(i));
+			first = second;
+			second = current;
+		}
+		
+		this.first = first;
+		this.second = second;
+		count += to - start;
+	}
+	
+	public void acceptAll(IntStream nums) {
+		nums.sequential().forEachOrdered(this);
+	}
+	
+	/**
+	 * Reads little-endian int32 values until the end of the channel.
+	 * 
+	 * @return the number of values read
+	 */
+	public long readFrom(ReadableByteChannel channel) throws IOException {
+		return IntChunkReader.read(channel, (chunk, length) -> accept(chunk, 0, length));
+	}
+	
+	/**
+	 * Reads a file of little-endian int32 values in place, through memory-mapped windows (see MappedWindows),
+	 * so the values are never copied onto the heap, whatever the file size.
+	 * 
+	 * @return the number of values read
+	 */
+	public long readFrom(Path file) throws IOException {
+		return MappedWindows.forEachInts(file, window -> accept(window.asIntBuffer()));
+	}
+	
+	/**
+	 * Maximum amount that can be robbed from the houses seen so far (0 if none).
+	 */
+	public long best() {
+		return second;
+	}
+	
+	public long count() {
+		return count;
+	}
+	
+	public void reset() {
+		first = 0;
+		second = 0;
+		count = 0;
+	}
+
+}
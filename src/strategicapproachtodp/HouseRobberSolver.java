@@ -0,0 +1,13 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Common entry point of every 198. House Robber variant, so callers do not hard-code one class (see Solvers, AdaptiveSolver).
+ *
+ */
+@FunctionalInterface
+public interface HouseRobberSolver {
+	
+	int rob(int[] nums);
+
+}
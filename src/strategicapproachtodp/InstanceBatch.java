@@ -0,0 +1,181 @@
+package strategicapproachtodp;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 
+ * = Many small instances in one call =
+ * 
+ * - Solving millions of 10 - 200 element instances one call (and one int[]) at a time is dominated by per-call overhead.
+ * - A batch is one flat array of concatenated instances plus offsets (like a CSR matrix):
+ *   instance i is data[offsets[i] .. offsets[i + 1]), and its answer goes to results[i].
+ *   
+ * - The harness splits the instances across cores with fork/join, cutting where the element count halves,
+ *   and runs small batches (at most GRAIN elements) directly on the calling thread.
+ * - Each problem supplies a Kernel that solves a range of instances straight from the flat array, without a per-instance int[].
+ * - Interleaving a few instances in lockstep was measured slower than one tight loop per instance
+ *   (the JIT unrolls the single-array loop and drops its bounds checks, which it cannot do across several streams).
+ *   
+ * - An IntBuffer backed by an array is read in place,
+ *   any other (direct or memory mapped) is copied one leaf slice at a time into a scratch array.
+ *
+ */
+public final class InstanceBatch {
+	
+	// Elements below which a batch is not split any further
+	static final int GRAIN = 1 << 15;
+	
+	/**
+	 * Solves instances [from, to): instance i is data[offsets[i] - base .. offsets[i + 1] - base).
+	 */
+	@FunctionalInterface
+	public interface Kernel {
+		void solve(int[] data, int base, int[] offsets, int from, int to, int[] results);
+	}
+	
+	private InstanceBatch() {}
+	
+	/**
+	 * Offsets for instances of the given lengths, laid out back to back from 0.
+	 */
+	public static int[] offsetsOf(int... lengths) {
+		int[] offsets = new int[lengths.length + 1];
+		for(int i = 0; i < lengths.length; i++) {
+			offsets[i + 1] = Math.addExact(offsets[i], lengths[i]);
+		}
+		return offsets;
+	}
+	
+	public static void run(int[] data, int[] offsets, int[] results, Kernel kernel) {
+		run(data, offsets, results, kernel, ForkJoinPool.commonPool());
+	}
+	
+	public static void run(int[] data, int[] offsets, int[] results, Kernel kernel, ForkJoinPool pool) {
+		int count = validate(data.length, offsets, results);
+		
+		if(offsets[count] - offsets[0] <= GRAIN) {
+			kernel.solve(data, 0, offsets, 0, count, results);
+		} else {
+			pool.invoke(new Split(data, 0, null, offsets, 0, count, results, kernel));
+		}
+	}
+	
+	/**
+	 * Offsets are relative to the buffer position, which is left unchanged.
+	 */
+	public static void run(IntBuffer data, int[] offsets, int[] results, Kernel kernel) {
+		run(data, offsets, results, kernel, ForkJoinPool.commonPool());
+	}
+	
+	public static void run(IntBuffer data, int[] offsets, int[] results, Kernel kernel, ForkJoinPool pool) {
+		if(data.hasArray()) {
+			int shift = data.arrayOffset() + data.position();
+			int count = validate(data.remaining(), offsets, results);
+			
+			// base is subtracted from offsets, so a negative base shifts them into the backing array
+			if(offsets[count] - offsets[0] <= GRAIN) {
+				kernel.solve(data.array(), -shift, offsets, 0, count, results);
+			} else {
+				pool.invoke(new Split(data.array(), -shift, null, offsets, 0, count, results, kernel));
+			}
+			return;
+		}
+		
+		int count = validate(data.remaining(), offsets, results);
+		IntBuffer view = data.slice();
+		
+		if(offsets[count] - offsets[0] <= GRAIN) {
+			new Split(null, 0, view, offsets, 0, count, results, kernel).leaf();
+		} else {
+			pool.invoke(new Split(null, 0, view, offsets, 0, count, results, kernel));
+		}
+	}
+	
+	private static int validate(int length, int[] offsets, int[] results) {
+		if(offsets.length == 0) {
+			throw new IllegalArgumentException("offsets needs at least one entry");
+		}
+		
+		int count = offsets.length - 1;
+		if(results.length < count) {
+			throw new IllegalArgumentException(count + " instances but only " + results.length + " results");
+		}
+		if(offsets[0] < 0 || offsets[count] > length) {
+			throw new IllegalArgumentException("offsets [" + offsets[0] + ", " + offsets[count] + "] outside data of length " + length);
+		}
+		for(int i = 0; i < count; i++) {
+			if(offsets[i] > offsets[i + 1]) {
+				throw new IllegalArgumentException("offsets decrease at instance " + i);
+			}
+		}
+		
+		return count;
+	}
+	
+	private static final class Split extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		// Either an array (read in place) or a buffer (copied per leaf)
+		private final int[] data;
+		private final int base;
+		private final IntBuffer buffer;
+		
+		private final int[] offsets;
+		private final int from;
+		private final int to;
+		private final int[] results;
+		private final Kernel kernel;
+		
+		Split(int[] data, int base, IntBuffer buffer, int[] offsets, int from, int to, int[] results, Kernel kernel) {
+			this.data = data;
+			this.base = base;
+			this.buffer = buffer;
+			this.offsets = offsets;
+			this.from = from;
+			this.to = to;
+			this.results = results;
+			this.kernel = kernel;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from == 1 || offsets[to] - offsets[from] <= GRAIN) {
+				leaf();
+				return;
+			}
+			
+			// First instance starting past the middle element, kept strictly inside (from, to)
+			int middle = offsets[from] + ((offsets[to] - offsets[from]) >>> 1);
+			int lo = from + 1;
+			int hi = to - 1;
+			while(lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if(offsets[mid] < middle) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			
+			invokeAll(new Split(data, base, buffer, offsets, from, lo, results, kernel),
+					new Split(data, base, buffer, offsets, lo, to, results, kernel));
+		}
+		
+		void leaf() {
+			if(buffer == null) {
+				kernel.solve(data, base, offsets, from, to, results);
+				return;
+			}
+			
+			int start = offsets[from];
+			int[] slice = new int[offsets[to] - start];
+			buffer.get(start, slice, 0, slice.length);
+			
+			kernel.solve(slice, start, offsets, from, to, results);
+		}
+	}
+
+}
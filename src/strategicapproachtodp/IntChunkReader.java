@@ -0,0 +1,54 @@
+package strategicapproachtodp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * 
+ * - Reads little-endian int32 values from a channel in fixed-size chunks,
+ *   so a streaming solver never needs the whole input in memory.
+ *
+ */
+class IntChunkReader {
+	
+	static final int CHUNK_INTS = 1 << 14;
+	
+	interface ChunkConsumer {
+		void accept(int[] chunk, int length);
+	}
+	
+	private IntChunkReader() {}
+	
+	static long read(ReadableByteChannel channel, ChunkConsumer sink) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK_INTS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		int[] chunk = new int[CHUNK_INTS];
+		long total = 0;
+		
+		while(channel.read(bytes) >= 0) {
+			bytes.flip();
+			
+			IntBuffer ints = bytes.asIntBuffer();
+			int length = ints.remaining();
+			ints.get(chunk, 0, length);
+			
+			if(length > 0) {
+				sink.accept(chunk, length);
+				total += length;
+			}
+			
+			// Keep the bytes of a value that was split between two reads
+			bytes.position(length * Integer.BYTES);
+			bytes.compact();
+		}
+		
+		if(bytes.position() != 0) {
+			throw new IOException("input ends with a partial int32 value (" + bytes.position() + " trailing bytes)");
+		}
+		
+		return total;
+	}
+
+}
@@ -0,0 +1,180 @@
+package strategicapproachtodp;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ *
+ * = Memo table for int states =
+ *
+ * - Top-down DP usually memoizes with a HashMap<Integer, Integer>,
+ *   which boxes every state and every result, and needs containsKey + get (two probes) per lookup.
+ * - This table keeps keys and values in primitive arrays and uses open addressing (linear probing),
+ *   so a memo hit is a single probe with no allocation.
+ *
+ * - It still only stores the states we actually visit,
+ *   so it stays sparse for top-down solves that touch a few subproblems only.
+ *
+ */
+public class IntMemo {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] keys;
+	private int[] values;
+	private boolean[] used;
+	private int size;
+	private int shift;
+	private int mask;
+
+	// getOrCompute outcomes, read by SolveMetrics.
+	// Only counted while a solve is recorded, otherwise a lookup pays a branch on a field and writes nothing.
+	private boolean counting;
+	private long hits;
+	private long misses;
+
+	public IntMemo() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntMemo(int expectedSize) {
+		allocate(tableSizeFor(expectedSize));
+	}
+
+	// Table size is a power of two kept at least twice the number of entries (load factor 0.5)
+	private static int tableSizeFor(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(2, expectedSize) - 1) << 2;
+		return Math.max(capacity, DEFAULT_CAPACITY);
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		shift = 32 - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private int slot(int key) {
+		// Fibonacci hashing, take the high bits so every key bit takes part (strided keys spread too)
+		int slot = (key * 0x9E3779B9) >>> shift;
+
+		while(used[slot] && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	public boolean containsKey(int key) {
+		return used[slot(key)];
+	}
+
+	public int get(int key, int defaultValue) {
+		int slot = slot(key);
+		return used[slot] ? values[slot] : defaultValue;
+	}
+
+	public void put(int key, int value) {
+		int slot = slot(key);
+
+		if(!used[slot]) {
+			if(2 * (size + 1) > keys.length) {
+				grow();
+				slot = slot(key);
+			}
+			used[slot] = true;
+			keys[slot] = key;
+			size++;
+		}
+
+		values[slot] = value;
+	}
+
+	/**
+	 * Adds delta to the value stored for key (missing keys count as 0).
+	 */
+	public void add(int key, int delta) {
+		int slot = slot(key);
+
+		if(used[slot]) {
+			values[slot] += delta;
+		} else {
+			put(key, delta);
+		}
+	}
+
+	/**
+	 * Returns the memoized value for key, or computes it with recurrence, stores it and returns it.
+	 *
+	 * - A hit costs one probe.
+	 * - The recurrence may call back into this memo (that is the point of top-down DP),
+	 *   so the slot is looked up again before storing in case the table grew in the meantime.
+	 */
+	public int getOrCompute(int key, IntUnaryOperator recurrence) {
+		int slot = slot(key);
+
+		if(used[slot]) {
+			if(counting) {
+				hits++;
+			}
+			return values[slot];
+		}
+
+		if(counting) {
+			misses++;
+		}
+		int value = recurrence.applyAsInt(key);
+		put(key, value);
+		return value;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Turns hit / miss counting on or off (solvers turn it on when SolveMetrics records the solve).
+	 */
+	void countLookups(boolean counting) {
+		this.counting = counting;
+	}
+
+	public long hits() {
+		return hits;
+	}
+
+	public long misses() {
+		return misses;
+	}
+
+	/**
+	 * Bytes held by the table arrays (keys, values and used flags).
+	 */
+	public long bytes() {
+		return (long) keys.length * (Integer.BYTES + Integer.BYTES + 1);
+	}
+
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	private void grow() {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+
+		allocate(oldKeys.length << 1);
+
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldUsed[i]) {
+				int slot = slot(oldKeys[i]);
+				used[slot] = true;
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+}
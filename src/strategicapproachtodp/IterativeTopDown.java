@@ -0,0 +1,108 @@
+package strategicapproachtodp;
+
+import java.util.Arrays;
+
+/**
+ *
+ * = Stack-safe top-down =
+ *
+ * - A recursive top-down solution goes as deep as the longest chain of states,
+ *   e.g. dp(n) -> dp(n - 1) -> ... -> dp(1) for Climbing Stairs, so big n throws StackOverflowError.
+ * - This evaluator runs the same recurrence, written the same way, but keeps the pending states on an explicit int stack (on the heap).
+ *
+ * - How it works:
+ *   - Take the state on top of the stack and run its recurrence.
+ *   - Every lookup of an already memoized state returns its value.
+ *   - The first lookup of a state that is not memoized yet is pushed onto the stack, and the current attempt is thrown away.
+ *   - Once all its dependencies are memoized, the recurrence of the state succeeds, is stored, and popped.
+ *
+ * - A state's recurrence runs at most (number of dependencies + 1) times,
+ *   so the time complexity stays the same as memoized recursion, and the native stack use is constant.
+ *
+ */
+public class IterativeTopDown {
+
+	/**
+	 * The recurrence relation (with its base cases) for a given state.
+	 * Read other states through memo.dp(...) instead of calling dp recursively.
+	 */
+	public interface Recurrence {
+		int compute(int state, Lookup memo);
+	}
+
+	public interface Lookup {
+		int dp(int state);
+	}
+
+	private final IntMemo memo;
+	private final Recurrence recurrence;
+
+	private int[] stack = new int[16];
+	private int top;
+
+	// First dependency found missing during the current attempt
+	private boolean missing;
+
+	private final Lookup lookup = this::lookup;
+
+	public IterativeTopDown(Recurrence recurrence) {
+		this(recurrence, new IntMemo());
+	}
+
+	public IterativeTopDown(Recurrence recurrence, IntMemo memo) {
+		this.recurrence = recurrence;
+		this.memo = memo;
+	}
+
+	public int dp(int root) {
+
+		top = 0;
+		push(root);
+
+		while(top > 0) {
+			int state = stack[top - 1];
+
+			if(memo.containsKey(state)) {
+				top--;
+				continue;
+			}
+
+			missing = false;
+			int value = recurrence.compute(state, lookup);
+
+			if(!missing) {
+				memo.put(state, value);
+				top--;
+			}
+		}
+
+		return memo.get(root, 0);
+	}
+
+	private int lookup(int state) {
+		if(missing) {
+			return 0; // this attempt is discarded anyway
+		}
+
+		int value = memo.get(state, Integer.MIN_VALUE);
+		if(value == Integer.MIN_VALUE && !memo.containsKey(state)) {
+			missing = true;
+			push(state);
+			return 0;
+		}
+
+		return value;
+	}
+
+	public IntMemo memo() {
+		return memo;
+	}
+
+	private void push(int state) {
+		if(top == stack.length) {
+			stack = Arrays.copyOf(stack, top << 1);
+		}
+		stack[top++] = state;
+	}
+
+}
@@ -0,0 +1,161 @@
+package strategicapproachtodp;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 
+ * = JMX sink =
+ * 
+ * - Aggregates SolveStats per solver and registers one MXBean per solver, the first time it solves,
+ *   as strategicapproachtodp:type=Solver,name=<solver> on the platform MBean server (visible in JConsole / VisualVM).
+ * - Counters are LongAdders, so concurrent solves do not contend on one cache line.
+ *
+ */
+public class JmxMetricsSink implements MetricsSink {
+	
+	public static final String DOMAIN = "strategicapproachtodp";
+	
+	private final MBeanServer server;
+	private final ConcurrentHashMap<String, SolverMetrics> solvers = new ConcurrentHashMap<>();
+	
+	public JmxMetricsSink() {
+		this(ManagementFactory.getPlatformMBeanServer());
+	}
+	
+	public JmxMetricsSink(MBeanServer server) {
+		this.server = server;
+	}
+	
+	@Override
+	public void record(String solver, SolveStats stats) {
+		solvers.computeIfAbsent(solver, this::register).add(stats);
+	}
+	
+	public SolverMetricsMXBean metrics(String solver) {
+		return solvers.get(solver);
+	}
+	
+	/**
+	 * Unregisters every MXBean this sink registered.
+	 */
+	public void close() {
+		for(String solver : solvers.keySet()) {
+			try {
+				server.unregisterMBean(objectName(solver));
+			} catch(JMException e) {
+				// already gone
+			}
+		}
+		solvers.clear();
+	}
+	
+	private SolverMetrics register(String solver) {
+		SolverMetrics metrics = new SolverMetrics();
+		
+		try {
+			ObjectName name = objectName(solver);
+			if(server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(metrics, name);
+		} catch(JMException e) {
+			throw new IllegalStateException("cannot register JMX metrics for " + solver, e);
+		}
+		
+		return metrics;
+	}
+	
+	private static ObjectName objectName(String solver) throws JMException {
+		return new ObjectName(DOMAIN + ":type=Solver,name=" + ObjectName.quote(solver));
+	}
+	
+	static final class SolverMetrics implements SolverMetricsMXBean {
+		
+		private final LongAdder solves = new LongAdder();
+		private final LongAdder states = new LongAdder();
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+		private final LongAccumulator peakMemo = new LongAccumulator(Math::max, 0);
+		private final LongAccumulator peakBytes = new LongAccumulator(Math::max, 0);
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		
+		void add(SolveStats stats) {
+			solves.increment();
+			states.add(stats.statesComputed);
+			hits.add(stats.memoHits);
+			misses.add(stats.memoMisses);
+			nanos.add(stats.nanos);
+			peakMemo.accumulate(stats.peakMemoSize);
+			peakBytes.accumulate(stats.tableBytes);
+			maxNanos.accumulate(stats.nanos);
+		}
+		
+		@Override
+		public long getSolves() {
+			return solves.sum();
+		}
+		
+		@Override
+		public long getStatesComputed() {
+			return states.sum();
+		}
+		
+		@Override
+		public long getMemoHits() {
+			return hits.sum();
+		}
+		
+		@Override
+		public long getMemoMisses() {
+			return misses.sum();
+		}
+		
+		@Override
+		public double getMemoHitRate() {
+			long h = hits.sum();
+			long lookups = h + misses.sum();
+			return lookups == 0 ? 0 : (double) h / lookups;
+		}
+		
+		@Override
+		public long getPeakMemoSize() {
+			return peakMemo.get();
+		}
+		
+		@Override
+		public long getPeakTableBytes() {
+			return peakBytes.get();
+		}
+		
+		@Override
+		public long getTotalNanos() {
+			return nanos.sum();
+		}
+		
+		@Override
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+		
+		@Override
+		public void reset() {
+			solves.reset();
+			states.reset();
+			hits.reset();
+			misses.reset();
+			nanos.reset();
+			peakMemo.reset();
+			peakBytes.reset();
+			maxNanos.reset();
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Kadane summary of a segment =
+ * 
+ * - To split Maximum Subarray into independent pieces, each segment is described by 4 numbers:
+ *   - total, the sum of the whole segment.
+ *   - prefix, the best sum of a non-empty subarray starting at the left end.
+ *   - suffix, the best sum of a non-empty subarray ending at the right end.
+ *   - best, the best sum of any non-empty subarray inside the segment.
+ *   
+ * - Two neighbouring segments L and R merge in O(1):
+ *   - total  = L.total + R.total
+ *   - prefix = max(L.prefix, L.total + R.prefix)
+ *   - suffix = max(R.suffix, R.total + L.suffix)
+ *   - best   = max(L.best, R.best, L.suffix + R.prefix)  // the best subarray is in L, in R, or crosses the middle
+ *   
+ * - The merge is associative, so the segments can be merged in any tree shape as long as the left-to-right order is kept.
+ *
+ */
+public final class KadaneSummary {
+	
+	public final long total;
+	public final long prefix;
+	public final long suffix;
+	public final long best;
+	
+	public KadaneSummary(long total, long prefix, long suffix, long best) {
+		this.total = total;
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.best = best;
+	}
+	
+	/**
+	 * Summary of nums[from, to), which must not be empty.
+	 */
+	public static KadaneSummary of(int[] nums, int from, int to) {
+		if(from >= to) {
+			throw new IllegalArgumentException("empty segment [" + from + ", " + to + ")");
+		}
+		
+		long total = nums[from];
+		long prefix = nums[from];
+		long currentSubarray = nums[from];
+		long maxSubarray = nums[from];
+		
+		for(int i = from + 1; i < to; i++) {
+			int num = nums[i];
+			
+			total += num;
+			prefix = Math.max(prefix, total);
+			
+			currentSubarray = Math.max(num, currentSubarray + num);
+			maxSubarray = Math.max(currentSubarray, maxSubarray);
+		}
+		
+		// Kadane's current subarray at the end is exactly the best subarray ending at the right end
+		return new KadaneSummary(total, prefix, currentSubarray, maxSubarray);
+	}
+	
+	public static KadaneSummary merge(KadaneSummary left, KadaneSummary right) {
+		return new KadaneSummary(
+				left.total + right.total,
+				Math.max(left.prefix, left.total + right.prefix),
+				Math.max(right.suffix, right.total + left.suffix),
+				Math.max(Math.max(left.best, right.best), left.suffix + right.prefix));
+	}
+
+}
@@ -0,0 +1,72 @@
+package strategicapproachtodp;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 
+ * - Maps a file read-only, one window at a time, so solvers read it in place (no copy onto the heap)
+ *   and files larger than 2 GB (the limit of a single ByteBuffer) still work.
+ * - Windows are a whole number of units (an int32, a grid row, ...) so a unit never straddles two windows.
+ * - A window is dropped once its consumer returns, the mapping is released when the buffer is collected.
+ *
+ */
+class MappedWindows {
+	
+	// Largest window, rounded down to a whole number of units
+	static final long WINDOW_BYTES = 1L << 30;
+	
+	interface WindowConsumer {
+		void accept(MappedByteBuffer window) throws IOException;
+	}
+	
+	private MappedWindows() {}
+	
+	static long size(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return channel.size();
+		}
+	}
+	
+	/**
+	 * Maps [0, size) of the file in windows of whole units, little-endian.
+	 */
+	static void forEach(Path file, long size, long unit, WindowConsumer consumer) throws IOException {
+		forEach(file, size, unit, WINDOW_BYTES, consumer);
+	}
+	
+	static void forEach(Path file, long size, long unit, long windowBytes, WindowConsumer consumer) throws IOException {
+		long window = Math.max(unit, windowBytes - windowBytes % unit);
+		if(window > Integer.MAX_VALUE) {
+			throw new IOException("a single unit of " + unit + " bytes does not fit in one mapping");
+		}
+		
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			for(long position = 0; position < size; position += window) {
+				MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position));
+				bytes.order(ByteOrder.LITTLE_ENDIAN);
+				consumer.accept(bytes);
+			}
+		}
+	}
+	
+	/**
+	 * Maps a file of little-endian int32 values.
+	 * 
+	 * @return the number of values
+	 */
+	static long forEachInts(Path file, WindowConsumer consumer) throws IOException {
+		long size = size(file);
+		if(size % Integer.BYTES != 0) {
+			throw new IOException("input ends with a partial int32 value (" + size % Integer.BYTES + " trailing bytes)");
+		}
+		
+		forEach(file, size, Integer.BYTES, consumer);
+		return size / Integer.BYTES;
+	}
+
+}
@@ -0,0 +1,100 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = 2x2 matrix in the (max, +) semiring =
+ * 
+ * - In the (max, +) semiring, "addition" is max and "multiplication" is +.
+ * - The House Robber recurrence dp[i] = max(dp[i - 1], dp[i - 2] + nums[i]) is then a linear map:
+ * 
+ *     | dp[i]     |   | 0     nums[i] |   | dp[i - 1] |
+ *     | dp[i - 1] | = | 0     -inf    | x | dp[i - 2] |
+ *     
+ * - A run of houses is the product of their matrices, and the product is associative,
+ *   so chunks of the array can be reduced independently (in parallel) and multiplied together in order.
+ *   
+ * - The same recurrence drives DeleteAndEarn740_bottomup's maxPoints loop, with gain instead of nums[i].
+ *
+ */
+public final class MaxPlusMatrix {
+	
+	// -inf, kept far enough from Long.MIN_VALUE that adding a gain cannot wrap around
+	public static final long NEG_INF = Long.MIN_VALUE / 4;
+	
+	public static final MaxPlusMatrix IDENTITY = new MaxPlusMatrix(0, NEG_INF, NEG_INF, 0);
+	
+	public final long m00;
+	public final long m01;
+	public final long m10;
+	public final long m11;
+	
+	public MaxPlusMatrix(long m00, long m01, long m10, long m11) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m10 = m10;
+		this.m11 = m11;
+	}
+	
+	/**
+	 * Matrix of one step of the recurrence with the given gain.
+	 */
+	public static MaxPlusMatrix step(long gain) {
+		return new MaxPlusMatrix(0, gain, 0, NEG_INF);
+	}
+	
+	/**
+	 * Product of the steps gains[from], ..., gains[to - 1], applied in that order.
+	 * 
+	 * - Multiplying a new step on the left only needs the two rows of the current product,
+	 *   so the reduction costs O(1) per element with no allocation.
+	 */
+	public static MaxPlusMatrix reduce(int[] gains, int from, int to) {
+		long p00 = 0, p01 = NEG_INF;
+		long p10 = NEG_INF, p11 = 0;
+		
+		for(int i = from; i < to; i++) {
+			long gain = gains[i];
+			
+			long n00 = Math.max(p00, add(gain, p10));
+			long n01 = Math.max(p01, add(gain, p11));
+			
+			p10 = p00;
+			p11 = p01;
+			p00 = n00;
+			p01 = n01;
+		}
+		
+		return new MaxPlusMatrix(p00, p01, p10, p11);
+	}
+	
+	/**
+	 * this x before: first apply before, then this.
+	 */
+	public MaxPlusMatrix after(MaxPlusMatrix before) {
+		return new MaxPlusMatrix(
+				Math.max(add(m00, before.m00), add(m01, before.m10)),
+				Math.max(add(m00, before.m01), add(m01, before.m11)),
+				Math.max(add(m10, before.m00), add(m11, before.m10)),
+				Math.max(add(m10, before.m01), add(m11, before.m11)));
+	}
+	
+	/**
+	 * dp[i] from the state (dp[i - 1], dp[i - 2]) before the first step of this matrix.
+	 */
+	public long apply(long prev, long prevPrev) {
+		return Math.max(add(m00, prev), add(m01, prevPrev));
+	}
+	
+	/**
+	 * dp[i - 1] from the state (dp[i - 1], dp[i - 2]) before the first step of this matrix.
+	 */
+	public long applySecond(long prev, long prevPrev) {
+		return Math.max(add(m10, prev), add(m11, prevPrev));
+	}
+	
+	// Semiring multiplication, -inf absorbs
+	private static long add(long a, long b) {
+		return a <= NEG_INF || b <= NEG_INF ? NEG_INF : a + b;
+	}
+
+}
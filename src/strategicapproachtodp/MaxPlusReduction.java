@@ -0,0 +1,73 @@
+package strategicapproachtodp;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 
+ * = Parallel reduction of dp[i] = max(dp[i - 1], dp[i - 2] + gain[i]) =
+ * 
+ * - Every chunk of gains is reduced to one MaxPlusMatrix on its own fork/join task,
+ *   then the matrices are multiplied in order on the way back up (right chunk after left chunk).
+ * - Time O(n / p + log n) on p cores.
+ *
+ */
+public class MaxPlusReduction {
+	
+	// Below this size a chunk is reduced sequentially
+	static final int DEFAULT_THRESHOLD = 1 << 16;
+	
+	private final ForkJoinPool pool;
+	private final int threshold;
+	
+	public MaxPlusReduction() {
+		this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+	
+	public MaxPlusReduction(ForkJoinPool pool, int threshold) {
+		if(threshold <= 0) {
+			throw new IllegalArgumentException("threshold must be positive: " + threshold);
+		}
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+	
+	public MaxPlusMatrix reduce(int[] gains, int from, int to) {
+		if(to - from <= threshold) {
+			return MaxPlusMatrix.reduce(gains, from, to);
+		}
+		return pool.invoke(new Chunk(gains, from, to, threshold));
+	}
+	
+	private static final class Chunk extends RecursiveTask<MaxPlusMatrix> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] gains;
+		private final int from;
+		private final int to;
+		private final int threshold;
+		
+		Chunk(int[] gains, int from, int to, int threshold) {
+			this.gains = gains;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+		
+		@Override
+		protected MaxPlusMatrix compute() {
+			if(to - from <= threshold) {
+				return MaxPlusMatrix.reduce(gains, from, to);
+			}
+			
+			int mid = (from + to) >>> 1;
+			Chunk left = new Chunk(gains, from, mid, threshold);
+			left.fork();
+			MaxPlusMatrix right = new Chunk(gains, mid, to, threshold).compute();
+			
+			return right.after(left.join());
+		}
+	}
+
+}
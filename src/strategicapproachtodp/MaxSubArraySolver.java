@@ -0,0 +1,13 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Common entry point of every 53. Maximum Subarray variant, so callers do not hard-code one class (see Solvers, AdaptiveSolver).
+ *
+ */
+@FunctionalInterface
+public interface MaxSubArraySolver {
+	
+	int maxSubArray(int[] nums);
+
+}
@@ -0,0 +1,217 @@
+package strategicapproachtodp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 
+ * = Maximal Square over bit-packed grids, tiled and wavefront-parallel =
+ * 
+ * - Same recurrence as MaximalSquare221_dp: dp(i, j) = min(dp(i, j - 1), dp(i - 1, j), dp(i - 1, j - 1)) + 1 on a '1' cell.
+ * 
+ * - Input: one bit per cell instead of a 16-bit char.
+ *   Row r is a long[], cell (r, c) is bit (c % 64) of word c / 64.
+ *   
+ * - Order: the grid is cut into T x T tiles.
+ *   A tile only needs the bottom row of the tile above, the right column of the tile to its left, and one corner cell.
+ *   So all the tiles on one anti-diagonal (ti + tj = d) are independent, and run in parallel;
+ *   the anti-diagonals run one after another (a wavefront).
+ *   
+ * - Memory: no table at all, only the borders.
+ *   - bottom[c], the dp value of column c in the last row of the latest tile computed in that tile column.
+ *   - right[ti][1 + r], the dp value in the last column of the latest tile computed in tile row ti,
+ *     and right[ti][0] the corner cell above it.
+ *   - That is O(rows + cols) ints, plus two rows of T + 1 ints per running tile.
+ *   
+ * - The area is returned as a long, since a 50k x 50k square does not fit in an int.
+ *
+ */
+public class MaximalSquare221_bitpacked {
+	
+	static final int DEFAULT_TILE = 256;
+	
+	private final ForkJoinPool pool;
+	private final int tile;
+	
+	public MaximalSquare221_bitpacked() {
+		this(ForkJoinPool.commonPool(), DEFAULT_TILE);
+	}
+	
+	public MaximalSquare221_bitpacked(ForkJoinPool pool, int tile) {
+		if(tile <= 0) {
+			throw new IllegalArgumentException("tile size must be positive: " + tile);
+		}
+		this.pool = pool;
+		this.tile = tile;
+	}
+	
+	/**
+	 * Packs a '0' / '1' char grid into one bit per cell.
+	 */
+	public static long[][] pack(char[][] matrix) {
+		long[][] rows = new long[matrix.length][];
+		
+		for(int r = 0; r < matrix.length; r++) {
+			char[] row = matrix[r];
+			long[] bits = new long[(row.length + 63) >>> 6];
+			
+			for(int c = 0; c < row.length; c++) {
+				if(row[c] == '1') {
+					bits[c >>> 6] |= 1L << c;
+				}
+			}
+			rows[r] = bits;
+		}
+		
+		return rows;
+	}
+	
+	public long maximalSquare(BitSet[] rows, int cols) {
+		long[][] bits = new long[rows.length][];
+		for(int r = 0; r < rows.length; r++) {
+			// toLongArray drops trailing zero words, pad the row back to its full width
+			bits[r] = Arrays.copyOf(rows[r].toLongArray(), (cols + 63) >>> 6);
+		}
+		return maximalSquare(bits, cols);
+	}
+	
+	public long maximalSquare(long[][] rows, int cols) {
+		int tileRows = (rows.length + tile - 1) / tile;
+		int tileCols = (cols + tile - 1) / tile;
+		
+		if(tileRows == 0 || tileCols == 0) {
+			return 0;
+		}
+		
+		Wavefront wavefront = new Wavefront(rows, cols, tileRows, tileCols);
+		
+		if(tileRows == 1 && tileCols == 1) {
+			wavefront.compute();
+		} else {
+			pool.invoke(wavefront);
+		}
+		
+		long side = wavefront.maxsqlen;
+		return side * side;
+	}
+	
+	private final class Wavefront extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final long[][] rows;
+		private final int cols;
+		private final int tileRows;
+		private final int tileCols;
+		
+		private final int[] bottom;
+		private final int[][] right;
+		
+		int maxsqlen;
+		
+		Wavefront(long[][] rows, int cols, int tileRows, int tileCols) {
+			this.rows = rows;
+			this.cols = cols;
+			this.tileRows = tileRows;
+			this.tileCols = tileCols;
+			this.bottom = new int[cols];
+			this.right = new int[tileRows][tile + 1];
+		}
+		
+		@Override
+		protected void compute() {
+			List<Tile> diagonal = new ArrayList<>();
+			
+			for(int d = 0; d < tileRows + tileCols - 1; d++) {
+				diagonal.clear();
+				
+				for(int ti = Math.max(0, d - tileCols + 1); ti <= Math.min(d, tileRows - 1); ti++) {
+					diagonal.add(new Tile(this, ti, d - ti));
+				}
+				
+				if(diagonal.size() == 1) {
+					diagonal.get(0).compute();
+				} else {
+					invokeAll(diagonal);
+				}
+				
+				for(Tile t : diagonal) {
+					maxsqlen = Math.max(maxsqlen, t.maxsqlen);
+				}
+			}
+		}
+	}
+	
+	private final class Tile extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final Wavefront grid;
+		private final int ti;
+		private final int tj;
+		
+		int maxsqlen;
+		
+		Tile(Wavefront grid, int ti, int tj) {
+			this.grid = grid;
+			this.ti = ti;
+			this.tj = tj;
+		}
+		
+		@Override
+		protected void compute() {
+			int r0 = ti * tile;
+			int c0 = tj * tile;
+			int height = Math.min(tile, grid.rows.length - r0);
+			int width = Math.min(tile, grid.cols - c0);
+			
+			int[] bottom = grid.bottom;
+			int[] right = grid.right[ti];
+			
+			// prev[0] is the corner above-left, prev[1..width] the bottom row of the tile above
+			int[] prev = new int[width + 1];
+			int[] curr = new int[width + 1];
+			
+			prev[0] = right[0];
+			System.arraycopy(bottom, c0, prev, 1, width);
+			
+			// The tile to our right needs the cell above its top-left corner, which is our top border's last cell
+			int nextCorner = prev[width];
+			
+			int maxsqlen = 0;
+			
+			for(int r = 0; r < height; r++) {
+				long[] bits = grid.rows[r0 + r];
+				
+				curr[0] = tj == 0 ? 0 : right[1 + r]; // right column of the tile to our left
+				
+				for(int j = 1; j <= width; j++) {
+					int c = c0 + j - 1;
+					
+					if(((bits[c >>> 6] >>> c) & 1L) != 0) {
+						curr[j] = Math.min(Math.min(curr[j - 1], prev[j]), prev[j - 1]) + 1;
+						maxsqlen = Math.max(maxsqlen, curr[j]);
+					} else {
+						curr[j] = 0;
+					}
+				}
+				
+				right[1 + r] = curr[width];
+				
+				int[] swap = prev;
+				prev = curr;
+				curr = swap;
+			}
+			
+			System.arraycopy(prev, 1, bottom, c0, width);
+			right[0] = nextCorner;
+			
+			this.maxsqlen = maxsqlen;
+		}
+	}
+
+}
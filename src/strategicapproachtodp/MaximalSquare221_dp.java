@@ -1,26 +1,73 @@
 package strategicapproachtodp;
 
-public class MaximalSquare221_dp {
+public class MaximalSquare221_dp implements MaximalSquareSolver {
 	
+	@Override
 	public int maximalSquare(char[][] matrix) {
 		int rows = matrix.length;
 		int cols = rows > 0 ? matrix[0].length : 0;
+		long start = SolveMetrics.start();
 		
-		int[][] dp = new int[rows + 1][cols + 1];
+		// Row i only reads row i - 1, so two rows are enough instead of rows + 1
+		RollingRows dp = new RollingRows(2, cols + 1);
 		int maxsqlen = 0;
 		
 		for(int i = 1; i <= rows; i++) {
+			int[] prev = dp.row(i - 1);
+			int[] curr = dp.row(i);
+			
 			for(int j = 1; j <= cols; j++) {
 				if(matrix[i - 1][j - 1] == '1') {
-					dp[i][j] = Math.min(Math.min(dp[i][j - 1], dp[i - 1][j]),dp[i- 1][j -1]) + 1;
-					maxsqlen = Math.max(maxsqlen, dp[i][j]);
+					curr[j] = Math.min(Math.min(curr[j - 1], prev[j]),prev[j -1]) + 1;
+					maxsqlen = Math.max(maxsqlen, curr[j]);
 				
+				} else {
+					curr[j] = 0; // the row is reused, clear what the older row left here
 				}
 			}
 		}
 		
+		SolveMetrics.recordTable("MaximalSquare221_dp", (long) rows * cols, dp.bytes(), start);
 		return maxsqlen * maxsqlen;
 				
 	}
 
+	/**
+	 * {top row, left column, side} of a largest square of '1's, or {-1, -1, 0} if there is none.
+	 * Same rolling dp, plus the cell where the largest value was found: it is the square's bottom-right corner.
+	 */
+	public int[] maximalSquareCorner(char[][] matrix) {
+		int rows = matrix.length;
+		int cols = rows > 0 ? matrix[0].length : 0;
+		
+		RollingRows dp = new RollingRows(2, cols + 1);
+		int maxsqlen = 0;
+		int bottom = -1;
+		int right = -1;
+		
+		for(int i = 1; i <= rows; i++) {
+			int[] prev = dp.row(i - 1);
+			int[] curr = dp.row(i);
+			
+			for(int j = 1; j <= cols; j++) {
+				if(matrix[i - 1][j - 1] == '1') {
+					curr[j] = Math.min(Math.min(curr[j - 1], prev[j]),prev[j -1]) + 1;
+					
+					if(curr[j] > maxsqlen) {
+						maxsqlen = curr[j];
+						bottom = i - 1;
+						right = j - 1;
+					}
+				} else {
+					curr[j] = 0;
+				}
+			}
+		}
+		
+		if(maxsqlen == 0) {
+			return new int[] {-1, -1, 0};
+		}
+		return new int[] {bottom - maxsqlen + 1, right - maxsqlen + 1, maxsqlen};
+	}
+
 }
@@ -0,0 +1,216 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Maximal Square with updates =
+ * 
+ * - MaximalSquare221_dp rebuilds the whole dp table on every call.
+ * - This object keeps the table, dp(i, j) = side of the largest square of '1's whose bottom-right corner is (i, j),
+ *   and updates it when a cell changes.
+ *   
+ * - dp(i, j) only reads dp(i, j - 1), dp(i - 1, j) and dp(i - 1, j - 1),
+ *   so changing cell (r, c) can only change cells below and to the right of it.
+ * - set(r, c, bit) recomputes row by row, starting from the columns that changed in the row above,
+ *   and stops as soon as a row has no change. Usually that is a small corner, not the whole lower-right region.
+ * 
+ * - A cell is '1' exactly when its dp value is positive, so the table doubles as the grid.
+ * - A histogram of the dp values (how many cells have each side) answers the whole-grid queries:
+ *   - the largest square is the largest side with a non-zero count,
+ *   - a cell with dp = v is the bottom-right corner of squares of side 1..v,
+ *     so the number of squares with side >= k is the sum of (v - k + 1) * count[v] over v >= k.
+ *
+ */
+public class MaximalSquare221_incremental {
+	
+	private final int rows;
+	private final int cols;
+	private final int stride;
+	
+	// (rows + 1) x (cols + 1), row 0 and column 0 are padding zeros like in MaximalSquare221_dp
+	private final int[] dp;
+	
+	// count[v] = number of cells with dp value v (v > 0)
+	private final long[] count;
+	private int maxsqlen;
+	
+	public MaximalSquare221_incremental(int rows, int cols) {
+		if(rows < 0 || cols < 0) {
+			throw new IllegalArgumentException("negative grid size " + rows + " x " + cols);
+		}
+		
+		this.rows = rows;
+		this.cols = cols;
+		this.stride = cols + 1;
+		this.dp = new int[Math.multiplyExact(rows + 1, cols + 1)];
+		this.count = new long[Math.min(rows, cols) + 1];
+	}
+	
+	public MaximalSquare221_incremental(char[][] matrix) {
+		this(matrix.length, matrix.length > 0 ? matrix[0].length : 0);
+		
+		for(int i = 1; i <= rows; i++) {
+			for(int j = 1; j <= cols; j++) {
+				if(matrix[i - 1][j - 1] == '1') {
+					int index = i * stride + j;
+					dp[index] = Math.min(Math.min(dp[index - 1], dp[index - stride]), dp[index - stride - 1]) + 1;
+					count[dp[index]]++;
+					maxsqlen = Math.max(maxsqlen, dp[index]);
+				}
+			}
+		}
+	}
+	
+	public boolean get(int row, int col) {
+		checkCell(row, col);
+		return dp[(row + 1) * stride + col + 1] > 0;
+	}
+	
+	public void set(int row, int col, boolean bit) {
+		checkCell(row, col);
+		
+		int i = row + 1;
+		int j = col + 1;
+		int index = i * stride + j;
+		
+		if((dp[index] > 0) == bit) {
+			return;
+		}
+		
+		update(index, bit ? value(index) : 0);
+		
+		// Rest of row i: only the left neighbour changed, so stop at the first cell that does not change
+		int lo = j;
+		int hi = j;
+		while(hi < cols && recompute(i * stride + hi + 1)) {
+			hi++;
+		}
+		
+		// Rows below: recompute under the changed range of the row above (and one more column),
+		// then keep going right while the cells still change
+		for(i++; i <= rows; i++) {
+			int newLo = -1;
+			int newHi = -1;
+			
+			for(int c = lo; c <= cols; c++) {
+				boolean changed = recompute(i * stride + c);
+				
+				if(changed) {
+					if(newLo < 0) {
+						newLo = c;
+					}
+					newHi = c;
+				} else if(c > hi) {
+					break;
+				}
+			}
+			
+			if(newLo < 0) {
+				break;
+			}
+			
+			lo = newLo;
+			hi = newHi;
+		}
+	}
+	
+	/**
+	 * Area of the largest square of '1's in the whole grid.
+	 */
+	public int maximalSquare() {
+		while(maxsqlen > 0 && count[maxsqlen] == 0) {
+			maxsqlen--;
+		}
+		return maxsqlen * maxsqlen;
+	}
+	
+	/**
+	 * Area of the largest square of '1's inside rows [r1, r2] and columns [c1, c2] (inclusive).
+	 * 
+	 * - A square with bottom-right corner (i, j) inside the rectangle has side at most
+	 *   min(dp(i, j), i - r1 + 1, j - c1 + 1) once it is clipped to the rectangle's top and left edges.
+	 * - Time O(area of the rectangle).
+	 */
+	public int maximalSquare(int r1, int c1, int r2, int c2) {
+		checkCell(r1, c1);
+		checkCell(r2, c2);
+		if(r1 > r2 || c1 > c2) {
+			throw new IllegalArgumentException("empty rectangle [" + r1 + ", " + r2 + "] x [" + c1 + ", " + c2 + "]");
+		}
+		
+		int best = 0;
+		int limit = Math.min(r2 - r1, c2 - c1) + 1;
+		
+		for(int i = r1; i <= r2 && best < limit; i++) {
+			int rowLimit = i - r1 + 1;
+			if(rowLimit <= best) {
+				continue; // rows near the top cannot beat best
+			}
+			
+			int base = (i + 1) * stride + 1;
+			
+			for(int j = c1 + best; j <= c2; j++) {
+				int side = Math.min(Math.min(dp[base + j], rowLimit), j - c1 + 1);
+				best = Math.max(best, side);
+			}
+		}
+		
+		return best * best;
+	}
+	
+	/**
+	 * Number of squares of '1's with side >= k (every position and size counted once).
+	 */
+	public long countSquares(int k) {
+		if(k <= 0) {
+			throw new IllegalArgumentException("k must be positive: " + k);
+		}
+		
+		long squares = 0;
+		for(int v = Math.max(k, 1); v < count.length; v++) {
+			squares += (v - k + 1) * count[v];
+		}
+		return squares;
+	}
+	
+	// New dp value of a '1' cell
+	private int value(int index) {
+		return Math.min(Math.min(dp[index - 1], dp[index - stride]), dp[index - stride - 1]) + 1;
+	}
+	
+	// Recomputes a cell that is not being set, returns whether its value changed
+	private boolean recompute(int index) {
+		int old = dp[index];
+		if(old == 0) {
+			return false; // a '0' cell stays 0
+		}
+		
+		int value = value(index);
+		if(value == old) {
+			return false;
+		}
+		
+		update(index, value);
+		return true;
+	}
+	
+	private void update(int index, int value) {
+		int old = dp[index];
+		
+		if(old > 0) {
+			count[old]--;
+		}
+		if(value > 0) {
+			count[value]++;
+		}
+		
+		dp[index] = value;
+		maxsqlen = Math.max(maxsqlen, value);
+	}
+	
+	private void checkCell(int row, int col) {
+		if(row < 0 || row >= rows || col < 0 || col >= cols) {
+			throw new IndexOutOfBoundsException("cell (" + row + ", " + col + ") is outside " + rows + " x " + cols);
+		}
+	}
+
+}
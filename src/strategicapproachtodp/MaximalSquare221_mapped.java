@@ -0,0 +1,157 @@
+package strategicapproachtodp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 
+ * = Maximal Square straight from a grid file =
+ * 
+ * - MaximalSquare221_dp needs the whole grid as a char[][] (2 bytes per cell plus one object per row),
+ *   but the recurrence only ever reads the previous row.
+ * - Here the file is memory-mapped in windows of whole rows (see MappedWindows) and read in place, one row at a time:
+ *   the heap holds two dp rows and one decoded row of cells, O(cols), whatever the file size (past 2 GB too).
+ * - Each row goes through DpKernels.squareRow, like MaximalSquare221_vector.
+ *   
+ * - Two file formats:
+ *   - text, one byte per cell: '0' / '1' rows ending with '\n' or "\r\n" (the last one may have no line ending),
+ *     the width is the length of the first line, and every row is checked against it (IOException otherwise),
+ *   - bits, one bit per cell: every row is (cols + 7) / 8 bytes, cell c is bit c % 8 (least significant first) of byte c / 8.
+ *   
+ * - The area is returned as a long, since the side of a large grid squared does not fit in an int.
+ *
+ */
+public class MaximalSquare221_mapped {
+	
+	private final DpKernels kernels;
+	private final long windowBytes;
+	
+	public MaximalSquare221_mapped() {
+		this(DpKernels.get(), MappedWindows.WINDOW_BYTES);
+	}
+	
+	MaximalSquare221_mapped(DpKernels kernels, long windowBytes) {
+		this.kernels = kernels;
+		this.windowBytes = windowBytes;
+	}
+	
+	public long maximalSquareText(Path file) throws IOException {
+		long size = MappedWindows.size(file);
+		long[] line = firstLine(file);
+		
+		long cols;
+		long stride;
+		
+		if(line[0] < 0) {
+			// No line ending at all: a single row, or nothing
+			cols = size;
+			stride = size + 1;
+		} else {
+			cols = line[0];
+			stride = line[1];
+		}
+		
+		if(cols > Integer.MAX_VALUE - 1) {
+			throw new IOException("rows of " + cols + " cells are too wide");
+		}
+		if(size % stride != 0 && size % stride != cols) {
+			throw new IOException("rows are not all " + cols + " cells wide");
+		}
+		
+		char[] cells = new char[(int) cols];
+		int width = (int) cols;
+		int ending = (int) (stride - cols); // 1 for '\n', 2 for "\r\n"
+		
+		return solve(file, size, width, stride, cols, (window, start) -> {
+			for(int c = 0; c < width; c++) {
+				byte b = window.get(start + c);
+				if(b != '0' && b != '1') {
+					throw b == '\n' || b == '\r'
+							? new IOException("rows are not all " + cols + " cells wide")
+							: new IOException("cells must be '0' or '1', found byte " + (b & 0xFF));
+				}
+				cells[c] = (char) b;
+			}
+			
+			// The line ending of this row sits right after its cells (the last row may have none)
+			int end = start + width;
+			if(end < window.limit()
+					&& (end + ending > window.limit() || window.get(end + ending - 1) != '\n' || ending == 2 && window.get(end) != '\r')) {
+				throw new IOException("rows are not all " + cols + " cells wide");
+			}
+			
+			return cells;
+		});
+	}
+	
+	public long maximalSquareBits(Path file, int cols) throws IOException {
+		long size = MappedWindows.size(file);
+		long stride = (cols + 7L) >>> 3;
+		
+		if(stride == 0 ? size != 0 : size % stride != 0) {
+			throw new IOException("file of " + size + " bytes is not a whole number of " + stride + " byte rows");
+		}
+		
+		char[] cells = new char[cols];
+		
+		return solve(file, size, cols, Math.max(stride, 1), stride, (window, start) -> {
+			for(int c = 0; c < cols; c++) {
+				cells[c] = (window.get(start + (c >>> 3)) & (1 << (c & 7))) != 0 ? '1' : '0';
+			}
+			return cells;
+		});
+	}
+	
+	private interface RowDecoder {
+		char[] decode(MappedByteBuffer window, int start) throws IOException;
+	}
+	
+	// A row is read from every stride bytes, and needs cellBytes of them (a text row without line ending is shorter than stride)
+	private long solve(Path file, long size, int cols, long stride, long cellBytes, RowDecoder decoder) throws IOException {
+		RollingRows dp = new RollingRows(2, cols + 1);
+		long[] row = {0};
+		int[] maxsqlen = {0};
+		
+		MappedWindows.forEach(file, size, stride, windowBytes, window -> {
+			for(long start = 0; start < window.limit() && start + cellBytes <= window.limit(); start += stride) {
+				long i = ++row[0];
+				char[] cells = decoder.decode(window, (int) start);
+				
+				int longest = kernels.squareRow(dp.row((int) ((i - 1) & 1)), dp.row((int) (i & 1)), cells, cols);
+				maxsqlen[0] = Math.max(maxsqlen[0], longest);
+			}
+		});
+		
+		return (long) maxsqlen[0] * maxsqlen[0];
+	}
+	
+	// {cells, bytes with the line ending} of the first line, or {-1, -1} if the file has no '\n'
+	private static long[] firstLine(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer bytes = ByteBuffer.allocate(1 << 16);
+			long offset = 0;
+			byte last = 0;
+			
+			while(channel.read(bytes) >= 0) {
+				bytes.flip();
+				for(int i = 0; i < bytes.limit(); i++) {
+					byte b = bytes.get(i);
+					if(b == '\n') {
+						long length = offset + i;
+						return last == '\r' ? new long[] {length - 1, length + 1} : new long[] {length, length + 1};
+					}
+					last = b;
+				}
+				offset += bytes.limit();
+				bytes.clear();
+			}
+			
+			return new long[] {-1, -1};
+		}
+	}
+
+}
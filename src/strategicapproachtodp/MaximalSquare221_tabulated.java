@@ -0,0 +1,62 @@
+package strategicapproachtodp;
+
+import multidimensionaldp.BottomUp;
+
+/**
+ * 
+ * = Maximal Square on the bottom-up engine =
+ * 
+ * - Same recurrence as MaximalSquare221_dp, declared instead of hand-looped (see multidimensionaldp.BottomUp):
+ *   - state (i, j), a cell of the grid,
+ *   - neighbours {0, -1}, {-1, 0}, {-1, -1}, read as 0 outside the grid (the padding row and column of MaximalSquare221_dp),
+ *   - dp(i, j) = min of the three neighbours + 1 on a '1' cell, 0 on a '0' cell.
+ * - The engine finds the row-major order, and keeps 2 rows (the offsets only reach one row back).
+ *
+ */
+public class MaximalSquare221_tabulated implements MaximalSquareSolver {
+	
+	private static final int[] LEFT = {0, -1};
+	private static final int[] UP = {-1, 0};
+	private static final int[] DIAGONAL = {-1, -1};
+	
+	@Override
+	public int maximalSquare(char[][] matrix) {
+		int rows = matrix.length;
+		int cols = rows > 0 ? matrix[0].length : 0;
+		
+		if(rows == 0 || cols == 0) {return 0;}
+		
+		long start = SolveMetrics.start();
+		
+		Table dp = new Table(matrix);
+		dp.solve();
+		
+		SolveMetrics.recordTable("MaximalSquare221_tabulated", (long) rows * cols, dp.bytes(), start);
+		return (int) (dp.maxsqlen * dp.maxsqlen);
+	}
+	
+	private static final class Table extends BottomUp {
+		
+		private final char[][] matrix;
+		long maxsqlen;
+		
+		Table(char[][] matrix) {
+			super(new int[] {matrix.length, matrix[0].length}, LEFT, UP, DIAGONAL);
+			this.matrix = matrix;
+		}
+		
+		@Override
+		protected long compute(int[] at) {
+			if(matrix[at[0]][at[1]] != '1') {return 0;}
+			
+			// Recurrence relation
+			return Math.min(Math.min(neighbour(0), neighbour(1)), neighbour(2)) + 1;
+		}
+		
+		@Override
+		protected void visit(int[] at, long value) {
+			maxsqlen = Math.max(maxsqlen, value);
+		}
+	}
+
+}
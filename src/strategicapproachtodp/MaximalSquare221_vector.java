@@ -0,0 +1,38 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Maximal Square with SIMD rows =
+ * 
+ * - Same rolling two-row dp as MaximalSquare221_dp, but each row is computed by DpKernels.squareRow,
+ *   which splits the vertical / diagonal min (vectorized) from the left-neighbour min (scalar).
+ *
+ */
+public class MaximalSquare221_vector implements MaximalSquareSolver {
+	
+	private final DpKernels kernels;
+	
+	public MaximalSquare221_vector() {
+		this(DpKernels.get());
+	}
+	
+	public MaximalSquare221_vector(DpKernels kernels) {
+		this.kernels = kernels;
+	}
+	
+	@Override
+	public int maximalSquare(char[][] matrix) {
+		int rows = matrix.length;
+		int cols = rows > 0 ? matrix[0].length : 0;
+		
+		RollingRows dp = new RollingRows(2, cols + 1);
+		int maxsqlen = 0;
+		
+		for(int i = 1; i <= rows; i++) {
+			maxsqlen = Math.max(maxsqlen, kernels.squareRow(dp.row(i - 1), dp.row(i), matrix[i - 1], cols));
+		}
+		
+		return maxsqlen * maxsqlen;
+	}
+
+}
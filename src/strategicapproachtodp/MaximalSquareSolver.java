@@ -0,0 +1,13 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Common entry point of every 221. Maximal Square variant, so callers do not hard-code one class (see Solvers, AdaptiveSolver).
+ *
+ */
+@FunctionalInterface
+public interface MaximalSquareSolver {
+	
+	int maximalSquare(char[][] matrix);
+
+}
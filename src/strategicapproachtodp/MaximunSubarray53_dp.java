@@ -1,7 +1,10 @@
 package strategicapproachtodp;
 
-public class MaximunSubarray53_dp {
+import java.nio.IntBuffer;
+
+public class MaximunSubarray53_dp implements MaxSubArraySolver {
 	
+	@Override
 	public int maxSubArray(int[] nums) {
 		// Initialize our variables using the first element
 		int currentSubarray = nums[0];
@@ -20,5 +23,72 @@ public class MaximunSubarray53_dp {
 		
 		return maxSubarray;
 	}
+	
+	/**
+	 * maxSubArray for every instance of a batch (see InstanceBatch), instances must not be empty.
+	 */
+	public void maxSubArrayAll(int[] data, int[] offsets, int[] results) {
+		InstanceBatch.run(data, offsets, results, MaximunSubarray53_dp::maxSubArrayRange);
+	}
+	
+	public void maxSubArrayAll(IntBuffer data, int[] offsets, int[] results) {
+		InstanceBatch.run(data, offsets, results, MaximunSubarray53_dp::maxSubArrayRange);
+	}
+	
+	private static void maxSubArrayRange(int[] data, int base, int[] offsets, int from, int to, int[] results) {
+		for(int i = from; i < to; i++) {
+			if(offsets[i] == offsets[i + 1]) {
+				throw new IllegalArgumentException("empty instance " + i);
+			}
+			
+			int start = offsets[i] - base;
+			int end = offsets[i + 1] - base;
+			
+			// Same scan as maxSubArray, over data[start .. end)
+			int currentSubarray = data[start];
+			int maxSubarray = data[start];
+			
+			for(int j = start + 1; j < end; j++) {
+				int num = data[j];
+				currentSubarray = Math.max(num, currentSubarray + num);
+				maxSubarray = Math.max(currentSubarray, maxSubarray);
+			}
+			
+			results[i] = maxSubarray;
+		}
+	}
+
+	/**
+	 * Bounds {start, end} (inclusive) of a subarray with the sum returned by maxSubArray.
+	 * Same scan, plus where the current subarray started: O(1) extra space.
+	 */
+	public int[] maxSubArrayBounds(int[] nums) {
+		int currentSubarray = nums[0];
+		int maxSubarray = nums[0];
+		
+		int currentStart = 0;
+		int bestStart = 0;
+		int bestEnd = 0;
+		
+		for(int i = 1 ; i < nums.length; i++) {
+			int num = nums[i];
+			
+			// Throwing the current subarray away means a new one starts here
+			if(num > currentSubarray + num) {
+				currentSubarray = num;
+				currentStart = i;
+			} else {
+				currentSubarray += num;
+			}
+			
+			if(currentSubarray > maxSubarray) {
+				maxSubarray = currentSubarray;
+				bestStart = currentStart;
+				bestEnd = i;
+			}
+		}
+		
+		return new int[] {bestStart, bestEnd};
+	}
 
 }
@@ -0,0 +1,79 @@
+package strategicapproachtodp;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 
+ * = Parallel Maximum Subarray (divide and conquer) =
+ * 
+ * - Kadane's scan in MaximunSubarray53_dp is sequential: each step needs the previous currentSubarray.
+ * - Instead, we split nums into chunks, summarize every chunk independently (see KadaneSummary),
+ *   and merge the summaries back up the fork/join tree.
+ * - Time O(n / p + log n) on p cores, extra space O(log n) for the summaries on the tree.
+ *
+ */
+public class MaximunSubarray53_parallel implements MaxSubArraySolver {
+	
+	// Below this size a chunk is scanned sequentially, forking costs more than it saves
+	static final int DEFAULT_THRESHOLD = 1 << 16;
+	
+	private final ForkJoinPool pool;
+	private final int threshold;
+	
+	public MaximunSubarray53_parallel() {
+		this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+	
+	public MaximunSubarray53_parallel(ForkJoinPool pool, int threshold) {
+		if(threshold <= 0) {
+			throw new IllegalArgumentException("threshold must be positive: " + threshold);
+		}
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+	
+	@Override
+	public int maxSubArray(int[] nums) {
+		return Math.toIntExact(summarize(nums).best);
+	}
+	
+	public KadaneSummary summarize(int[] nums) {
+		if(nums.length <= threshold) {
+			return DpKernels.get().kadane(nums, 0, nums.length);
+		}
+		return pool.invoke(new Segment(nums, 0, nums.length, threshold));
+	}
+	
+	private static final class Segment extends RecursiveTask<KadaneSummary> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] nums;
+		private final int from;
+		private final int to;
+		private final int threshold;
+		
+		Segment(int[] nums, int from, int to, int threshold) {
+			this.nums = nums;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+		
+		@Override
+		protected KadaneSummary compute() {
+			if(to - from <= threshold) {
+				return DpKernels.get().kadane(nums, from, to);
+			}
+			
+			int mid = (from + to) >>> 1;
+			Segment left = new Segment(nums, from, mid, threshold);
+			left.fork();
+			KadaneSummary right = new Segment(nums, mid, to, threshold).compute();
+			
+			return KadaneSummary.merge(left.join(), right);
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Maximum Subarray over ranges, with updates =
+ * 
+ * - MaximunSubarray53_dp answers the whole array only, and has to scan everything again after a change.
+ * - This object keeps a segment tree of Kadane summaries (see KadaneSummary): every node summarizes its range,
+ *   and is the merge of its two children.
+ *   - maxSubArray(from, to) merges the O(log n) nodes that cover [from, to), left to right.
+ *   - update(i, value) rewrites leaf i and the O(log n) nodes above it.
+ *   - Building it from an array is O(n), bottom-up.
+ *   
+ * - Layout: an implicit binary tree over size = the next power of two >= n leaves,
+ *   node 1 is the root, node v has children 2v and 2v + 1, leaf i is node size + i.
+ *   The 4 summary fields live in 4 flat long[] (no node objects).
+ * - Padding leaves are empty segments: total 0, and prefix = suffix = best = NEG_INF,
+ *   which leaves the other side unchanged in a merge.
+ *
+ */
+public class MaximunSubarray53_segmenttree {
+	
+	// Empty segment, small enough to never win a max, far enough from Long.MIN_VALUE to never overflow when added
+	static final long NEG_INF = Long.MIN_VALUE / 4;
+	
+	private final int n;
+	private final int size;
+	
+	private final long[] total;
+	private final long[] prefix;
+	private final long[] suffix;
+	private final long[] best;
+	
+	public MaximunSubarray53_segmenttree(int[] nums) {
+		n = nums.length;
+		size = Integer.highestOneBit(Math.max(1, n - 1)) << 1;
+		
+		total = new long[2 * size];
+		prefix = new long[2 * size];
+		suffix = new long[2 * size];
+		best = new long[2 * size];
+		
+		for(int i = 0; i < size; i++) {
+			if(i < n) {
+				setLeaf(size + i, nums[i]);
+			} else {
+				prefix[size + i] = NEG_INF;
+				suffix[size + i] = NEG_INF;
+				best[size + i] = NEG_INF;
+			}
+		}
+		
+		for(int v = size - 1; v >= 1; v--) {
+			pull(v);
+		}
+	}
+	
+	public int size() {
+		return n;
+	}
+	
+	public void update(int i, int value) {
+		if(i < 0 || i >= n) {
+			throw new IndexOutOfBoundsException("index " + i + " is outside [0, " + n + ")");
+		}
+		
+		int v = size + i;
+		setLeaf(v, value);
+		
+		for(v >>>= 1; v >= 1; v >>>= 1) {
+			pull(v);
+		}
+	}
+	
+	public long get(int i) {
+		if(i < 0 || i >= n) {
+			throw new IndexOutOfBoundsException("index " + i + " is outside [0, " + n + ")");
+		}
+		return total[size + i];
+	}
+	
+	/**
+	 * Maximum subarray sum of the whole array, which must not be empty.
+	 */
+	public long maxSubArray() {
+		return maxSubArray(0, n);
+	}
+	
+	/**
+	 * Maximum sum of a non-empty subarray inside [from, to).
+	 */
+	public long maxSubArray(int from, int to) {
+		return summarize(from, to).best;
+	}
+	
+	/**
+	 * Summary of [from, to), which must not be empty.
+	 */
+	public KadaneSummary summarize(int from, int to) {
+		if(from < 0 || to > n || from >= to) {
+			throw new IllegalArgumentException("range [" + from + ", " + to + ") is empty or outside [0, " + n + ")");
+		}
+		
+		// Nodes found walking up from the left end merge onto the right of (lt, lp, ls, lb),
+		// nodes found from the right end onto the left of (rt, rp, rs, rb)
+		long lt = 0, lp = NEG_INF, ls = NEG_INF, lb = NEG_INF;
+		long rt = 0, rp = NEG_INF, rs = NEG_INF, rb = NEG_INF;
+		
+		for(int lo = from + size, hi = to + size; lo < hi; lo >>>= 1, hi >>>= 1) {
+			if((lo & 1) == 1) {
+				long t = lt + total[lo];
+				long p = Math.max(lp, lt + prefix[lo]);
+				long s = Math.max(suffix[lo], total[lo] + ls);
+				lb = Math.max(Math.max(lb, best[lo]), ls + prefix[lo]);
+				lt = t;
+				lp = p;
+				ls = s;
+				lo++;
+			}
+			if((hi & 1) == 1) {
+				hi--;
+				long t = total[hi] + rt;
+				long p = Math.max(prefix[hi], total[hi] + rp);
+				long s = Math.max(rs, rt + suffix[hi]);
+				rb = Math.max(Math.max(best[hi], rb), suffix[hi] + rp);
+				rt = t;
+				rp = p;
+				rs = s;
+			}
+		}
+		
+		return new KadaneSummary(
+				lt + rt,
+				Math.max(lp, lt + rp),
+				Math.max(rs, rt + ls),
+				Math.max(Math.max(lb, rb), ls + rp));
+	}
+	
+	private void setLeaf(int v, int value) {
+		total[v] = value;
+		prefix[v] = value;
+		suffix[v] = value;
+		best[v] = value;
+	}
+	
+	// Node v = merge(2v, 2v + 1), see KadaneSummary.merge
+	private void pull(int v) {
+		int l = v << 1;
+		int r = l | 1;
+		
+		total[v] = total[l] + total[r];
+		prefix[v] = Math.max(prefix[l], total[l] + prefix[r]);
+		suffix[v] = Math.max(suffix[r], total[r] + suffix[l]);
+		best[v] = Math.max(Math.max(best[l], best[r]), suffix[l] + prefix[r]);
+	}
+
+}
@@ -0,0 +1,136 @@
+package strategicapproachtodp;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 
+ * = Streaming Maximum Subarray (Kadane) =
+ * 
+ * - MaximunSubarray53_dp only keeps currentSubarray and maxSubarray while it scans nums,
+ *   so the values can be pushed one at a time (accept), as chunks or buffers, from an IntStream,
+ *   a channel or a memory-mapped file of little-endian int32 values, without holding them in memory.
+ * - best() is the maximum subarray sum of the values seen so far.
+ * 
+ * - Sums are kept in a long, since a long stream can easily go past Integer.MAX_VALUE.
+ *
+ */
+public class MaximunSubarray53_streaming implements IntConsumer {
+	
+	private long currentSubarray;
+	private long maxSubarray;
+	private long count;
+	
+	@Override
+	public void accept(int num) {
+		if(count == 0) {
+			// Initialize our variables using the first element
+			currentSubarray = num;
+			maxSubarray = num;
+		} else {
+			// if the current subarray is negative, throw it away. Otherwise, keep adding to it.
+			currentSubarray = Math.max(num, currentSubarray + num);
+			maxSubarray = Math.max(currentSubarray, maxSubarray);
+		}
+		count++;
+	}
+	
+	public void accept(int[] nums, int from, int to) {
+		int i = from;
+		
+		if(count == 0 && i < to) {
+			accept(nums[i++]);
+		}
+		
+		long currentSubarray = this.currentSubarray;
+		long maxSubarray = this.maxSubarray;
+		int start = i;
+		
+		for(; i < to; i++) {
+			int num = nums[i];
+			currentSubarray = Math.max(num, currentSubarray + num);
+			maxSubarray = Math.max(currentSubarray, maxSubarray);
+		}
+		
+		this.currentSubarray = currentSubarray;
+		this.maxSubarray = maxSubarray;
+		count += to - start;
+	}
+	
+	/**
+	 * The values between the position and the limit of buffer, read in place (absolute gets, the position is left unchanged).
+	 */
+	public void accept(IntBuffer buffer) {
+		int i = buffer.position();
+		int to = buffer.limit();
+		
+		if(count == 0 && i < to) {
+			accept(buffer.get(i++));
+		}
+		
+		long currentSubarray = this.currentSubarray;
+		long maxSubarray = this.maxSubarray;
+		int start = i;
+		
+		for(; i < to; i++) {
+			int num = buffer.get(i);
+			currentSubarray = Math.max(num, currentSubarray + num);
+			maxSubarray = Math.max(currentSubarray, maxSubarray);
+		}
+		
+		this.currentSubarray = currentSubarray;
+		this.maxSubarray = maxSubarray;
+		count += to - start;
+	}
+	
+	public void acceptAll(IntStream nums) {
+		nums.sequential().forEachOrdered(this);
+	}
+	
+	/**
+	 * Reads little-endian int32 values until the end of the channel.
+	 * 
+	 * @return the number of values read
+	 */
+	public long readFrom(ReadableByteChannel channel) throws IOException {
+		return IntChunkReader.read(channel, (chunk, length) -> accept(chunk, 0, length));
+	}
+	
+	/**
+	 * Reads a file of little-endian int32 values in place, through memory-mapped windows (see MappedWindows),
+	 * so the values are never copied onto the heap, whatever the file size.
+	 * 
+	 * @return the number of values read
+	 */
+	public long readFrom(Path file) throws IOException {
+		return MappedWindows.forEachInts(file, window -> accept(window.asIntBuffer()));
+	}
+	
+	/**
+	 * Maximum subarray sum of the values seen so far.
+	 * 
+	 * @throws NoSuchElementException if no value has been seen yet
+	 */
+	public long best() {
+		if(count == 0) {
+			throw new NoSuchElementException("no values seen yet");
+		}
+		return maxSubarray;
+	}
+	
+	public long count() {
+		return count;
+	}
+	
+	public void reset() {
+		currentSubarray = 0;
+		maxSubarray = 0;
+		count = 0;
+	}
+
+}
@@ -0,0 +1,14 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Where SolveMetrics sends the stats of every solve (e.g. JmxMetricsSink, or a logger, or a test collector).
+ * - Called on the solving thread, so it should be cheap and thread-safe.
+ *
+ */
+@FunctionalInterface
+public interface MetricsSink {
+	
+	void record(String solver, SolveStats stats);
+
+}
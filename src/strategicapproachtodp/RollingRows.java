@@ -0,0 +1,35 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Rolling rows =
+ * 
+ * - The 2D version of RollingTable.
+ * - When row i of a table only reads rows i - 1, ..., i - k + 1,
+ *   we keep k rows and reuse them in turn, so memory drops from O(rows * cols) to O(k * cols).
+ *   
+ * - A reused row still holds the values of an older row,
+ *   so the recurrence has to write every cell it will read (including zeros).
+ *
+ */
+public class RollingRows {
+	
+	private final int[][] rows;
+	
+	public RollingRows(int window, int cols) {
+		if(window <= 0) {
+			throw new IllegalArgumentException("window must be positive: " + window);
+		}
+		
+		rows = new int[window][cols];
+	}
+	
+	public long bytes() {
+		return (long) rows.length * rows[0].length * Integer.BYTES;
+	}
+	
+	public int[] row(int i) {
+		return rows[i % rows.length];
+	}
+
+}
@@ -0,0 +1,53 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Rolling table =
+ * 
+ * - In a bottom-up solution where dp[i] only looks back at dp[i - 1], ..., dp[i - k],
+ *   everything older than k states is never read again.
+ * - So instead of an array of length n, we keep a ring buffer of the last k states,
+ *   and memory drops from O(n) to O(k).
+ *   
+ * - HouseRobber198_dp_topdownoptimized does the same thing by hand with two variables (first, second);
+ *   this table does it for any lookback while keeping the dp[i] indexing of the recurrence.
+ *   
+ * - Only the last window states are valid: get(i) is meaningful for the window most recently set indices.
+ *
+ */
+public class RollingTable {
+	
+	private final int[] buffer;
+	private final int mask;
+	
+	/**
+	 * @param window how far back the recurrence looks, plus one for the current state
+	 */
+	public RollingTable(int window) {
+		if(window <= 0) {
+			throw new IllegalArgumentException("window must be positive: " + window);
+		}
+		
+		// Power of two so that i % size is a mask
+		int size = Integer.highestOneBit(window);
+		if(size < window) {
+			size <<= 1;
+		}
+		
+		buffer = new int[size];
+		mask = size - 1;
+	}
+	
+	public long bytes() {
+		return (long) buffer.length * Integer.BYTES;
+	}
+	
+	public int get(int i) {
+		return buffer[i & mask];
+	}
+	
+	public void set(int i, int value) {
+		buffer[i & mask] = value;
+	}
+
+}
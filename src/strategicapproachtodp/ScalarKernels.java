@@ -0,0 +1,48 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - The plain loops behind DpKernels, used when the Vector API is not available.
+ *
+ */
+public class ScalarKernels implements DpKernels {
+	
+	@Override
+	public int[] minMax(int[] nums) {
+		if(nums.length == 0) {
+			throw new IllegalArgumentException("empty input");
+		}
+		
+		int min = nums[0];
+		int max = nums[0];
+		
+		for(int num : nums) {
+			min = Math.min(min, num);
+			max = Math.max(max, num);
+		}
+		
+		return new int[] {min, max};
+	}
+	
+	@Override
+	public int squareRow(int[] prev, int[] curr, char[] cells, int cols) {
+		int maxsqlen = 0;
+		
+		for(int j = 1; j <= cols; j++) {
+			if(cells[j - 1] == '1') {
+				curr[j] = Math.min(Math.min(curr[j - 1], prev[j]), prev[j - 1]) + 1;
+				maxsqlen = Math.max(maxsqlen, curr[j]);
+			} else {
+				curr[j] = 0;
+			}
+		}
+		
+		return maxsqlen;
+	}
+	
+	@Override
+	public KadaneSummary kadane(int[] nums, int from, int to) {
+		return KadaneSummary.of(nums, from, to);
+	}
+
+}
@@ -0,0 +1,264 @@
+package strategicapproachtodp;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 
+ * = Thread-safe, bounded memo shared across solves =
+ * 
+ * - IntMemo belongs to one solver instance on one thread, and grows without bound.
+ * - This memo is shared: several threads and several solves read and fill the same table.
+ * 
+ * - Entries are scoped to an input identity, (scope, state) -> value:
+ *   - Input-independent problems like Climbing Stairs use one scope (e.g. 0), so every request reuses every state.
+ *   - Input-dependent problems like House Robber use scopeOf(nums), an id handed out per distinct content
+ *     (the memo keeps a copy of the input and compares it with Arrays.equals),
+ *     so a state of one input is never returned for another one, whatever their hashes.
+ *   - Ids are never reused. Once the copies kept add up to the capacity they are dropped,
+ *     an input seen again then gets a new id, and the entries of its old id age out of the sets.
+ *     
+ * - Striped: the table is split into stripes with their own lock, so threads on different states rarely wait for each other.
+ * - Bounded: each stripe is a set-associative cache, a (scope, state) can only live in the WAYS slots of its set.
+ *   When the set is full, the least recently used of those slots is evicted (LRU within the set).
+ *   All arrays are allocated up front, so the memo never holds more than its capacity, and never allocates per entry.
+ *   
+ * - The recurrence runs outside any lock (it calls back into the memo, possibly into other stripes),
+ *   so two threads may compute the same state at the same time; both get the same value, that is harmless.
+ * - The capacity should cover the states of one solve, otherwise states evicted mid-solve are computed again.
+ *
+ */
+public class SharedMemo {
+	
+	// Slots per set
+	static final int WAYS = 4;
+	
+	private static final long ABSENT = Long.MIN_VALUE;
+	
+	private final Stripe[] stripes;
+	private final int stripeMask;
+	private final int stripeBits;
+	private final int setMask;
+	
+	// Input content -> scope, ids start at 1 (0 is left to input-independent problems)
+	private final ConcurrentHashMap<Content, Long> scopes = new ConcurrentHashMap<>();
+	private final AtomicLong nextScope = new AtomicLong();
+	private final AtomicLong retained = new AtomicLong();
+	
+	public SharedMemo(int capacity) {
+		this(capacity, Runtime.getRuntime().availableProcessors() * 4);
+	}
+	
+	public SharedMemo(int capacity, int concurrency) {
+		if(capacity <= 0 || concurrency <= 0) {
+			throw new IllegalArgumentException("capacity and concurrency must be positive: " + capacity + ", " + concurrency);
+		}
+		
+		int stripeCount = powerOfTwo(concurrency);
+		int setsPerStripe = powerOfTwo(Math.max(1, capacity / (stripeCount * WAYS)));
+		
+		stripes = new Stripe[stripeCount];
+		for(int i = 0; i < stripeCount; i++) {
+			stripes[i] = new Stripe(setsPerStripe * WAYS);
+		}
+		
+		stripeMask = stripeCount - 1;
+		stripeBits = Integer.numberOfTrailingZeros(stripeCount);
+		setMask = setsPerStripe - 1;
+	}
+	
+	/**
+	 * Scope for an input array, the same id for every array with the same length and contents.
+	 * Costs one hash and one comparison over the input per call, not per state.
+	 */
+	public long scopeOf(int[] nums) {
+		Long scope = scopes.get(new Content(nums));
+		if(scope != null) {
+			return scope;
+		}
+		
+		if(retained.addAndGet(nums.length + 1L) > capacity()) {
+			synchronized(scopes) {
+				if(retained.get() > capacity()) {
+					scopes.clear();
+					retained.set(nums.length + 1L);
+				}
+			}
+		}
+		
+		// Keep a copy, the caller may change its array afterwards
+		return scopes.computeIfAbsent(new Content(nums.clone()), content -> nextScope.incrementAndGet());
+	}
+	
+	public int getOrCompute(long scope, int state, IntUnaryOperator recurrence) {
+		long hash = hash(scope, state);
+		Stripe stripe = stripes[(int) hash & stripeMask];
+		int set = (int) (hash >>> stripeBits) & setMask;
+		
+		long found = stripe.get(set, scope, state);
+		if(found != ABSENT) {
+			return (int) found;
+		}
+		
+		int value = recurrence.applyAsInt(state);
+		stripe.put(set, scope, state, value);
+		return value;
+	}
+	
+	public long size() {
+		long size = 0;
+		for(Stripe stripe : stripes) {
+			synchronized(stripe) {
+				size += stripe.size;
+			}
+		}
+		return size;
+	}
+	
+	public long capacity() {
+		return (long) stripes.length * stripes[0].values.length;
+	}
+	
+	public long hits() {
+		long hits = 0;
+		for(Stripe stripe : stripes) {
+			synchronized(stripe) {
+				hits += stripe.hits;
+			}
+		}
+		return hits;
+	}
+	
+	public long misses() {
+		long misses = 0;
+		for(Stripe stripe : stripes) {
+			synchronized(stripe) {
+				misses += stripe.misses;
+			}
+		}
+		return misses;
+	}
+	
+	public long evictions() {
+		long evictions = 0;
+		for(Stripe stripe : stripes) {
+			synchronized(stripe) {
+				evictions += stripe.evictions;
+			}
+		}
+		return evictions;
+	}
+	
+	public void clear() {
+		for(Stripe stripe : stripes) {
+			synchronized(stripe) {
+				Arrays.fill(stripe.stamps, 0L);
+				stripe.size = 0;
+			}
+		}
+		scopes.clear();
+		retained.set(0);
+	}
+	
+	private static long hash(long scope, int state) {
+		long h = scope * 0x9E3779B97F4A7C15L + state;
+		h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+		h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+		return h ^ (h >>> 31);
+	}
+	
+	private static int powerOfTwo(int n) {
+		int p = Integer.highestOneBit(n);
+		return p < n ? p << 1 : p;
+	}
+	
+	// An int[] compared by content
+	private static final class Content {
+		
+		private final int[] nums;
+		private final int hash;
+		
+		Content(int[] nums) {
+			this.nums = nums;
+			this.hash = Arrays.hashCode(nums);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Content && hash == ((Content) other).hash && Arrays.equals(nums, ((Content) other).nums);
+		}
+	}
+	
+	private static final class Stripe {
+		
+		private final long[] scopes;
+		private final int[] states;
+		private final int[] values;
+		
+		// Last access time of each slot, 0 = empty
+		private final long[] stamps;
+		private long clock;
+		
+		private int size;
+		private long hits;
+		private long misses;
+		private long evictions;
+		
+		Stripe(int slots) {
+			scopes = new long[slots];
+			states = new int[slots];
+			values = new int[slots];
+			stamps = new long[slots];
+		}
+		
+		synchronized long get(int set, long scope, int state) {
+			int base = set * WAYS;
+			
+			for(int i = base; i < base + WAYS; i++) {
+				if(stamps[i] != 0 && states[i] == state && scopes[i] == scope) {
+					stamps[i] = ++clock;
+					hits++;
+					return values[i];
+				}
+			}
+			
+			misses++;
+			return ABSENT;
+		}
+		
+		synchronized void put(int set, long scope, int state, int value) {
+			int base = set * WAYS;
+			int victim = base;
+			
+			for(int i = base; i < base + WAYS; i++) {
+				if(stamps[i] != 0 && states[i] == state && scopes[i] == scope) {
+					victim = i; // another thread got here first
+					break;
+				}
+				if(stamps[i] < stamps[victim]) {
+					victim = i; // empty (0) or least recently used
+				}
+			}
+			
+			boolean same = stamps[victim] != 0 && states[victim] == state && scopes[victim] == scope;
+			if(stamps[victim] == 0) {
+				size++;
+			} else if(!same) {
+				evictions++;
+			}
+			
+			scopes[victim] = scope;
+			states[victim] = state;
+			values[victim] = value;
+			stamps[victim] = ++clock;
+		}
+	}
+
+}
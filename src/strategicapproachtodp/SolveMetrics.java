@@ -0,0 +1,69 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * = Solver instrumentation =
+ * 
+ * - The Javadoc of ClimbingStairs70_recursion explains memoization by how many times each subproblem is evaluated;
+ *   this is where we actually count it.
+ * - Instrumented solvers: ClimbingStairs70_DP, HouseRobber198_dp_topdown, the bottom-up ClimbingStairs70, HouseRobber198
+ *   and DeleteAndEarn740 classes, and MaximalSquare221_dp.
+ *   
+ * - Off by default. Disabled, a solve costs one volatile read more, nothing is timed or allocated.
+ * - Enabled, each solve records one SolveStats into the installed sink.
+ * 
+ * - Memo hits and misses are counted by IntMemo itself, one long increment per lookup,
+ *   and only during a recorded solve: disabled, a lookup pays a (well predicted) branch on a field and no write.
+ * - Bottom-up state counts and table sizes are known from the input size.
+ *
+ */
+public final class SolveMetrics {
+	
+	private static volatile MetricsSink sink;
+	
+	private SolveMetrics() {}
+	
+	/**
+	 * Installs the sink, or disables metrics with null.
+	 */
+	public static void setSink(MetricsSink sink) {
+		SolveMetrics.sink = sink;
+	}
+	
+	public static boolean enabled() {
+		return sink != null;
+	}
+	
+	/**
+	 * Start time of a solve, 0 when metrics are disabled.
+	 */
+	static long start() {
+		return sink != null ? System.nanoTime() : 0;
+	}
+	
+	/**
+	 * Records a top-down solve from the memo counters before (hitsBefore, missesBefore) and after it.
+	 */
+	static void recordMemo(String solver, IntMemo memo, long hitsBefore, long missesBefore, long start) {
+		MetricsSink current = sink;
+		if(current == null || start == 0) {
+			return;
+		}
+		
+		long misses = memo.misses() - missesBefore;
+		current.record(solver, new SolveStats(misses, memo.hits() - hitsBefore, misses, memo.size(), memo.bytes(), System.nanoTime() - start));
+	}
+	
+	/**
+	 * Records a bottom-up solve that computed states states in a table of tableBytes bytes.
+	 */
+	static void recordTable(String solver, long states, long tableBytes, long start) {
+		MetricsSink current = sink;
+		if(current == null || start == 0) {
+			return;
+		}
+		
+		current.record(solver, new SolveStats(states, 0, 0, 0, tableBytes, System.nanoTime() - start));
+	}
+
+}
@@ -0,0 +1,330 @@
+package strategicapproachtodp;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ *
+ * = In-process solve service =
+ *
+ * - Sits between an RPC layer and the solvers (AdaptiveSolver picks the variant per input).
+ * - Every call returns a CompletableFuture right away: a caller never holds a thread while it waits,
+ *   and the CPU-bound solves run on a bounded pool (threads x queue capacity).
+ *
+ * - Coalescing: a request identical to one already queued or running (same problem, equal input)
+ *   does not compute again, it waits on the same result.
+ *   Inputs are compared by content, and must not be modified until their future completes.
+ * - Climbing Stairs: answers come from a ClimbingStairs70_table,
+ *   so n up to what the table already holds is answered on the calling thread,
+ *   and a smaller n waits on any larger n in flight, then reads the table it extended
+ *   (falling back to its own computation if that one fails).
+ *   Past maxTableN (and the table's own cap) the table is not grown: the answer is an O(log n) matrix power
+ *   on the calling thread, and an exact answer past MAX_EXACT_N fails at once, so no request can make a pool thread allocate gigabytes.
+ *
+ * - Backpressure: when the queue is full, a new computation fails at once with RejectedExecutionException
+ *   (coalesced requests still join, they take no queue slot).
+ * - Deadlines: each request fails with TimeoutException once its own deadline passes.
+ *   A queued computation whose waiters have all expired is skipped; a running one is not interrupted
+ *   (the solvers are plain loops), its result still completes any waiter left.
+ *
+ */
+public class SolveService implements AutoCloseable {
+
+	static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	// Largest Climbing Stairs n the service grows the table to (8 MB of long)
+	static final int DEFAULT_MAX_TABLE_N = (1 << 20) - 1;
+
+	// Timeouts are capped so a deadline never overflows System.nanoTime arithmetic
+	private static final Duration MAX_TIMEOUT = Duration.ofDays(365);
+
+	private final AdaptiveSolver solver;
+	private final ClimbingStairs70_table stairs;
+	private final int maxTableN;
+	private final ThreadPoolExecutor pool;
+
+	private final ConcurrentMap<Request, Flight<Integer>> inFlight = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<Integer, Flight<Long>> climbing = new ConcurrentSkipListMap<>();
+
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder fromTable = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder expired = new LongAdder();
+
+	public SolveService() {
+		this(new AdaptiveSolver(), ClimbingStairs70_table.exact(), Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public SolveService(AdaptiveSolver solver, ClimbingStairs70_table stairs, int threads, int queueCapacity) {
+		this(solver, stairs, threads, queueCapacity, DEFAULT_MAX_TABLE_N);
+	}
+
+	public SolveService(AdaptiveSolver solver, ClimbingStairs70_table stairs, int threads, int queueCapacity, int maxTableN) {
+		if(threads <= 0 || queueCapacity <= 0 || maxTableN < 0) {
+			throw new IllegalArgumentException("threads and queue capacity must be positive, max table n not negative: "
+					+ threads + ", " + queueCapacity + ", " + maxTableN);
+		}
+
+		this.solver = solver;
+		this.stairs = stairs;
+		this.maxTableN = Math.min(maxTableN, stairs.maxN());
+
+		AtomicInteger count = new AtomicInteger();
+		this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), task -> {
+			Thread thread = new Thread(task, "dp-solve-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public CompletableFuture<Long> climbStairs(int n, Duration timeout) {
+		if(n < 0) {
+			return CompletableFuture.failedFuture(new IllegalArgumentException("n must not be negative: " + n));
+		}
+
+		// Already in the table
+		if(n <= stairs.computedUpTo()) {
+			fromTable.increment();
+			return CompletableFuture.completedFuture(stairs.ways(n));
+		}
+
+		// Past what the table may grow to: O(log n), cheap enough for the calling thread, and takes no queue slot.
+		// An exact answer that overflows fails here (so no flight in climbing is beyond what the table holds).
+		if(n > maxTableN) {
+			try {
+				return CompletableFuture.completedFuture(stairs.waysByMatrix(n));
+			} catch(ArithmeticException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		long deadline = deadline(timeout);
+
+		// About to be in the table once a larger n in flight completes.
+		// If that one fails (e.g. rejected before it was queued), this n still gets its own computation.
+		Map.Entry<Integer, Flight<Long>> larger = climbing.ceilingEntry(n);
+		if(larger != null && larger.getKey() > n && larger.getValue().join(deadline)) {
+			fromTable.increment();
+			return waiter(larger.getValue().result
+					.thenApply(ways -> stairs.ways(n))
+					.exceptionallyCompose(e -> coalesce(climbing, n, () -> stairs.ways(n), deadline)), deadline);
+		}
+
+		return coalesce(climbing, n, () -> stairs.ways(n), deadline);
+	}
+
+	public CompletableFuture<Integer> rob(int[] nums, Duration timeout) {
+		return coalesce(inFlight, new Request("rob", nums), () -> solver.rob(nums), deadline(timeout));
+	}
+
+	public CompletableFuture<Integer> maxSubArray(int[] nums, Duration timeout) {
+		return coalesce(inFlight, new Request("maxSubArray", nums), () -> solver.maxSubArray(nums), deadline(timeout));
+	}
+
+	public CompletableFuture<Integer> deleteAndEarn(int[] nums, Duration timeout) {
+		return coalesce(inFlight, new Request("deleteAndEarn", nums), () -> solver.deleteAndEarn(nums), deadline(timeout));
+	}
+
+	public CompletableFuture<Integer> maximalSquare(char[][] matrix, Duration timeout) {
+		return coalesce(inFlight, new Request("maximalSquare", matrix), () -> solver.maximalSquare(matrix), deadline(timeout));
+	}
+
+	/**
+	 * Computations started (each queued once, whatever the number of waiters).
+	 */
+	public long submitted() {
+		return submitted.sum();
+	}
+
+	/**
+	 * Requests that joined an identical computation in flight.
+	 */
+	public long coalesced() {
+		return coalesced.sum();
+	}
+
+	/**
+	 * Climbing Stairs requests answered from the table, or from a larger n in flight.
+	 */
+	public long fromTable() {
+		return fromTable.sum();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Queued computations skipped because every waiter's deadline had passed.
+	 */
+	public long expired() {
+		return expired.sum();
+	}
+
+	public int queued() {
+		return pool.getQueue().size();
+	}
+
+	/**
+	 * Stops accepting work, computations already queued still run.
+	 */
+	@Override
+	public void close() {
+		pool.shutdown();
+	}
+
+	private <K, T> CompletableFuture<T> coalesce(ConcurrentMap<K, Flight<T>> flights, K key, Supplier<T> work, long deadline) {
+		while(true) {
+			Flight<T> flight = new Flight<>(deadline);
+			Flight<T> existing = flights.putIfAbsent(key, flight);
+
+			if(existing != null) {
+				if(existing.join(deadline)) {
+					coalesced.increment();
+					return waiter(existing.result, deadline);
+				}
+				// It expired before starting, it is on its way out of the map
+				flights.remove(key, existing);
+				continue;
+			}
+
+			try {
+				pool.execute(() -> run(flights, key, flight, work));
+				submitted.increment();
+			} catch(RejectedExecutionException e) {
+				rejected.increment();
+				flights.remove(key, flight);
+				flight.result.completeExceptionally(e);
+			}
+
+			return waiter(flight.result, deadline);
+		}
+	}
+
+	private <K, T> void run(ConcurrentMap<K, Flight<T>> flights, K key, Flight<T> flight, Supplier<T> work) {
+		try {
+			if(!flight.start()) {
+				expired.increment();
+				flight.result.completeExceptionally(new TimeoutException("every caller's deadline passed while queued"));
+				return;
+			}
+
+			flight.result.complete(work.get());
+		} catch(RuntimeException e) {
+			flight.result.completeExceptionally(e);
+		} catch(Error e) {
+			// Waiters still hear about it, but an Error (e.g. OutOfMemoryError) is not swallowed
+			flight.result.completeExceptionally(e);
+			throw e;
+		} finally {
+			flights.remove(key, flight);
+		}
+	}
+
+	// This caller's own view of a shared result, failing on its own deadline only
+	private static <T> CompletableFuture<T> waiter(CompletableFuture<T> result, long deadline) {
+		long remaining = deadline - System.nanoTime();
+		return result.copy().orTimeout(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+	}
+
+	private static long deadline(Duration timeout) {
+		if(timeout.isNegative()) {
+			throw new IllegalArgumentException("negative timeout: " + timeout);
+		}
+		return System.nanoTime() + (timeout.compareTo(MAX_TIMEOUT) > 0 ? MAX_TIMEOUT : timeout).toNanos();
+	}
+
+	/**
+	 * One computation and everyone waiting on it.
+	 */
+	private static final class Flight<T> {
+
+		final CompletableFuture<T> result = new CompletableFuture<>();
+
+		// Latest deadline among the waiters (System.nanoTime)
+		private long deadline;
+		private boolean started;
+		private boolean expired;
+
+		Flight(long deadline) {
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Adds a waiter; false if the computation was already dropped as expired.
+		 */
+		synchronized boolean join(long deadline) {
+			if(expired) {
+				return false;
+			}
+			if(!started && deadline - this.deadline > 0) {
+				this.deadline = deadline;
+			}
+			return true;
+		}
+
+		/**
+		 * Called once by the pool thread; false if every waiter's deadline has passed.
+		 */
+		synchronized boolean start() {
+			if(System.nanoTime() - deadline > 0) {
+				expired = true;
+				return false;
+			}
+			started = true;
+			return true;
+		}
+	}
+
+	/**
+	 * Problem name plus input, equal by content.
+	 */
+	private static final class Request {
+
+		private final String problem;
+		private final Object input;
+		private final int hash;
+
+		Request(String problem, int[] nums) {
+			this.problem = problem;
+			this.input = nums;
+			this.hash = 31 * problem.hashCode() + Arrays.hashCode(nums);
+		}
+
+		Request(String problem, char[][] matrix) {
+			this.problem = problem;
+			this.input = matrix;
+			this.hash = 31 * problem.hashCode() + Arrays.deepHashCode(matrix);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if(!(other instanceof Request)) {
+				return false;
+			}
+			Request request = (Request) other;
+			return hash == request.hash && problem.equals(request.problem)
+					&& Arrays.deepEquals(new Object[] {input}, new Object[] {request.input});
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - What one solve did, as recorded by SolveMetrics.
+ *   - statesComputed, subproblems whose recurrence actually ran.
+ *   - memoHits / memoMisses, memo lookups that found / did not find the state (0 for bottom-up solvers, they have no memo).
+ *   - peakMemoSize, entries in the memo at the end of the solve (memos only grow during a solve).
+ *   - tableBytes, bytes allocated for the memo or the dp table.
+ *   - nanos, wall time of the solve.
+ *
+ */
+public final class SolveStats {
+	
+	public final long statesComputed;
+	public final long memoHits;
+	public final long memoMisses;
+	public final long peakMemoSize;
+	public final long tableBytes;
+	public final long nanos;
+	
+	public SolveStats(long statesComputed, long memoHits, long memoMisses, long peakMemoSize, long tableBytes, long nanos) {
+		this.statesComputed = statesComputed;
+		this.memoHits = memoHits;
+		this.memoMisses = memoMisses;
+		this.peakMemoSize = peakMemoSize;
+		this.tableBytes = tableBytes;
+		this.nanos = nanos;
+	}
+	
+	@Override
+	public String toString() {
+		return "SolveStats[states=" + statesComputed + ", hits=" + memoHits + ", misses=" + memoMisses
+				+ ", peakMemo=" + peakMemoSize + ", tableBytes=" + tableBytes + ", nanos=" + nanos + "]";
+	}
+
+}
@@ -0,0 +1,30 @@
+package strategicapproachtodp;
+
+/**
+ * 
+ * - Running totals for one solver class, published over JMX by JmxMetricsSink.
+ *
+ */
+public interface SolverMetricsMXBean {
+	
+	long getSolves();
+	
+	long getStatesComputed();
+	
+	long getMemoHits();
+	
+	long getMemoMisses();
+	
+	double getMemoHitRate();
+	
+	long getPeakMemoSize();
+	
+	long getPeakTableBytes();
+	
+	long getTotalNanos();
+	
+	long getMaxNanos();
+	
+	void reset();
+
+}
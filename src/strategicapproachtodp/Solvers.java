@@ -0,0 +1,78 @@
+package strategicapproachtodp;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 
+ * = Registry of every solver variant =
+ * 
+ * - One map per problem, from a variant name to a factory.
+ * - Factories, not instances: the top-down solvers keep a memo per instance, so each solve should get its own.
+ * - Variants whose native entry point has another shape (streaming, bit-packed) are adapted to the problem's interface here.
+ *
+ */
+public final class Solvers {
+	
+	public static final Map<String, Supplier<ClimbingStairsSolver>> CLIMBING_STAIRS;
+	public static final Map<String, Supplier<HouseRobberSolver>> HOUSE_ROBBER;
+	public static final Map<String, Supplier<MaxSubArraySolver>> MAX_SUBARRAY;
+	public static final Map<String, Supplier<DeleteAndEarnSolver>> DELETE_AND_EARN;
+	public static final Map<String, Supplier<MaximalSquareSolver>> MAXIMAL_SQUARE;
+	
+	static {
+		Map<String, Supplier<ClimbingStairsSolver>> climbingStairs = new LinkedHashMap<>();
+		climbingStairs.put("recursion", ClimbingStairs70_recursion::new);
+		climbingStairs.put("topdown", ClimbingStairs70_DP::new);
+		climbingStairs.put("bottomup", ClimbingStairs70_bottomup::new);
+		climbingStairs.put("matrix", ClimbingStairs70_matrix::new);
+		climbingStairs.put("table", ClimbingStairs70_table::exact);
+		CLIMBING_STAIRS = Collections.unmodifiableMap(climbingStairs);
+		
+		Map<String, Supplier<HouseRobberSolver>> houseRobber = new LinkedHashMap<>();
+		houseRobber.put("topdown", HouseRobber198_dp_topdown::new);
+		houseRobber.put("bottomup", HouseRobber198_dp_bottomup::new);
+		houseRobber.put("optimized", HouseRobber198_dp_topdownoptimized::new);
+		houseRobber.put("parallel", HouseRobber198_parallel::new);
+		houseRobber.put("streaming", () -> nums -> {
+			HouseRobber198_streaming solver = new HouseRobber198_streaming();
+			solver.accept(nums, 0, nums.length);
+			return Math.toIntExact(solver.best());
+		});
+		HOUSE_ROBBER = Collections.unmodifiableMap(houseRobber);
+		
+		Map<String, Supplier<MaxSubArraySolver>> maxSubArray = new LinkedHashMap<>();
+		maxSubArray.put("kadane", MaximunSubarray53_dp::new);
+		maxSubArray.put("parallel", MaximunSubarray53_parallel::new);
+		maxSubArray.put("segmenttree", () -> nums -> Math.toIntExact(new MaximunSubarray53_segmenttree(nums).maxSubArray()));
+		maxSubArray.put("streaming", () -> nums -> {
+			MaximunSubarray53_streaming solver = new MaximunSubarray53_streaming();
+			solver.accept(nums, 0, nums.length);
+			return Math.toIntExact(solver.best());
+		});
+		MAX_SUBARRAY = Collections.unmodifiableMap(maxSubArray);
+		
+		Map<String, Supplier<DeleteAndEarnSolver>> deleteAndEarn = new LinkedHashMap<>();
+		deleteAndEarn.put("topdown", DeleteAndEarn740_topdown::new);
+		deleteAndEarn.put("bottomup", DeleteAndEarn740_bottomup::new);
+		deleteAndEarn.put("parallel", DeleteAndEarn740_parallel::new);
+		deleteAndEarn.put("dynamic", () -> nums -> Math.toIntExact(new DeleteAndEarn740_dynamic(nums).best()));
+		DELETE_AND_EARN = Collections.unmodifiableMap(deleteAndEarn);
+		
+		Map<String, Supplier<MaximalSquareSolver>> maximalSquare = new LinkedHashMap<>();
+		maximalSquare.put("dp", MaximalSquare221_dp::new);
+		maximalSquare.put("vector", MaximalSquare221_vector::new);
+		maximalSquare.put("tabulated", MaximalSquare221_tabulated::new);
+		maximalSquare.put("bitpacked", () -> matrix -> {
+			int cols = matrix.length > 0 ? matrix[0].length : 0;
+			return Math.toIntExact(new MaximalSquare221_bitpacked().maximalSquare(MaximalSquare221_bitpacked.pack(matrix), cols));
+		});
+		maximalSquare.put("incremental", () -> matrix -> new MaximalSquare221_incremental(matrix).maximalSquare());
+		MAXIMAL_SQUARE = Collections.unmodifiableMap(maximalSquare);
+	}
+	
+	private Solvers() {}
+
+}
@@ -0,0 +1,162 @@
+package strategicapproachtodp;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 
+ * = SIMD kernels (jdk.incubator.vector) =
+ * 
+ * - Only loaded by DpKernels.get() when the module is present; every kernel ends with a scalar tail.
+ * 
+ * - minMax: lane-wise min / max over whole vectors, reduced once at the end.
+ * 
+ * - squareRow: min(curr[j - 1], prev[j], prev[j - 1]) has a left-to-right dependency through curr[j - 1],
+ *   so the row is split in two passes:
+ *   - vector pass: t[j] = min(prev[j], prev[j - 1]) + 1, or 0 on a '0' cell (the vertical / diagonal part, no dependency),
+ *   - scalar pass: curr[j] = min(curr[j - 1] + 1, t[j]), a single add and min per cell.
+ *   
+ * - kadane: with prefix sums P (P = 0 just before the chunk),
+ *   - total = last P, prefix = max P,
+ *   - best = max over j of P[j] - min(P before j), suffix = total - min(P before the last element).
+ *   - Inside a vector, prefix sums and running minimums are log2(lanes) shift-and-combine steps;
+ *     between vectors, the last prefix sum and the running minimum are carried over.
+ *   - Sums are long lanes, like KadaneSummary.
+ *
+ */
+public class VectorKernels implements DpKernels {
+	
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	
+	// Same lane count as INTS, to turn a char comparison into an int mask
+	private static final VectorSpecies<Short> SHORTS = VectorSpecies.of(short.class, VectorShape.forBitSize(INTS.vectorBitSize() / 2));
+	
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+	
+	// Same lane count as LONGS, loaded then widened to long
+	private static final VectorSpecies<Integer> HALF_INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+	
+	@Override
+	public int[] minMax(int[] nums) {
+		if(nums.length == 0) {
+			throw new IllegalArgumentException("empty input");
+		}
+		
+		IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+		IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+		
+		int bound = INTS.loopBound(nums.length);
+		int i = 0;
+		
+		for(; i < bound; i += INTS.length()) {
+			IntVector v = IntVector.fromArray(INTS, nums, i);
+			min = min.min(v);
+			max = max.max(v);
+		}
+		
+		int lo = min.reduceLanes(VectorOperators.MIN);
+		int hi = max.reduceLanes(VectorOperators.MAX);
+		
+		for(; i < nums.length; i++) {
+			lo = Math.min(lo, nums[i]);
+			hi = Math.max(hi, nums[i]);
+		}
+		
+		return new int[] {lo, hi};
+	}
+	
+	@Override
+	public int squareRow(int[] prev, int[] curr, char[] cells, int cols) {
+		int lanes = INTS.length();
+		int j = 1;
+		
+		// Vertical / diagonal part, written into curr as a temporary
+		for(; j + lanes - 1 <= cols; j += lanes) {
+			IntVector up = IntVector.fromArray(INTS, prev, j);
+			IntVector diagonal = IntVector.fromArray(INTS, prev, j - 1);
+			
+			VectorMask<Integer> ones = ShortVector.fromCharArray(SHORTS, cells, j - 1).eq((short) '1').cast(INTS);
+			
+			up.min(diagonal).add(1).blend(0, ones.not()).intoArray(curr, j);
+		}
+		
+		for(; j <= cols; j++) {
+			curr[j] = cells[j - 1] == '1' ? Math.min(prev[j], prev[j - 1]) + 1 : 0;
+		}
+		
+		// Left part, a '0' cell is already 0 and stays 0
+		int maxsqlen = 0;
+		
+		for(j = 1; j <= cols; j++) {
+			int value = Math.min(curr[j - 1] + 1, curr[j]);
+			curr[j] = value;
+			maxsqlen = Math.max(maxsqlen, value);
+		}
+		
+		return maxsqlen;
+	}
+	
+	@Override
+	public KadaneSummary kadane(int[] nums, int from, int to) {
+		if(from >= to) {
+			throw new IllegalArgumentException("empty segment [" + from + ", " + to + ")");
+		}
+		
+		int lanes = LONGS.length();
+		LongVector minBackground = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+		
+		long carry = 0;                // P just before the current position
+		long runMin = 0;               // min of P before the current position (P = 0 before the chunk)
+		long lastExclusiveMin = 0;     // min of P before the last element seen
+		
+		LongVector prefixMax = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+		LongVector best = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+		
+		int i = from;
+		
+		for(; i + lanes <= to; i += lanes) {
+			LongVector v = (LongVector) IntVector.fromArray(HALF_INTS, nums, i).convertShape(VectorOperators.I2L, LONGS, 0);
+			
+			// Inclusive prefix sums inside the vector, then shifted by what came before
+			for(int k = 1; k < lanes; k <<= 1) {
+				v = v.add(v.unslice(k));
+			}
+			LongVector prefix = v.add(carry);
+			
+			// Exclusive running minimum: lane j = min(runMin, prefix[0..j - 1])
+			LongVector exclusive = prefix.unslice(1, minBackground, 0).withLane(0, runMin);
+			for(int k = 1; k < lanes; k <<= 1) {
+				exclusive = exclusive.min(exclusive.unslice(k, minBackground, 0));
+			}
+			
+			prefixMax = prefixMax.max(prefix);
+			best = best.max(prefix.sub(exclusive));
+			
+			carry = prefix.lane(lanes - 1);
+			lastExclusiveMin = exclusive.lane(lanes - 1);
+			runMin = Math.min(lastExclusiveMin, carry);
+		}
+		
+		long prefixBest = prefixMax.reduceLanes(VectorOperators.MAX);
+		long bestInside = best.reduceLanes(VectorOperators.MAX);
+		
+		for(; i < to; i++) {
+			long p = carry + nums[i];
+			
+			prefixBest = Math.max(prefixBest, p);
+			bestInside = Math.max(bestInside, p - runMin);
+			
+			lastExclusiveMin = runMin;
+			runMin = Math.min(runMin, p);
+			carry = p;
+		}
+		
+		return new KadaneSummary(carry, prefixBest, carry - lastExclusiveMin, bestInside);
+	}
+
+}